@@ -0,0 +1,98 @@
+package com.employeemanagement.benchmark;
+
+import com.employeemanagement.model.dto.EmployeeRequestDto;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and decodes an employee request and a 1000-employee page in each negotiated format, with mappers built
+ * the way {@code JacksonConfig} builds them. Payload sizes are printed at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeCodecBenchmark {
+    private static final int PAGE_SIZE = 1000;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private ObjectWriter writer;
+    private ObjectReader requestReader;
+    private ObjectReader pageReader;
+    private EmployeeRequestDto request;
+    private List<EmployeeResponseDto> page;
+    private byte[] encodedRequest;
+    private byte[] encodedPage;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+        ObjectMapper objectMapper = switch (format) {
+            case "smile" -> json.copyWith(new SmileFactory());
+            case "cbor" -> json.copyWith(new CBORFactory());
+            default -> json;
+        };
+        writer = objectMapper.writer();
+        requestReader = objectMapper.readerFor(EmployeeRequestDto.class);
+        pageReader = objectMapper.readerForListOf(EmployeeResponseDto.class);
+        request = EmployeeRequestDto.builder().firstName("Héctor").lastName("Cortez").email("hc@email.com").build();
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++)
+            page.add(EmployeeResponseDto.builder()
+                    .id(new ObjectId().toHexString())
+                    .firstName(STR."First\{i}")
+                    .lastName(STR."Last\{i % 100}")
+                    .email(STR."employee\{i}@email.com")
+                    .build());
+        encodedRequest = writer.writeValueAsBytes(request);
+        encodedPage = writer.writeValueAsBytes(page);
+        System.out.println(STR."\{format}: request \{encodedRequest.length} bytes, page \{encodedPage.length} bytes");
+    }
+
+    @Benchmark
+    public byte[] encodeRequest() throws IOException {
+        return writer.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public EmployeeRequestDto decodeRequest() throws IOException {
+        return requestReader.readValue(encodedRequest);
+    }
+
+    @Benchmark
+    public byte[] encodePage() throws IOException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDto> decodePage() throws IOException {
+        return pageReader.readValue(encodedPage);
+    }
+}
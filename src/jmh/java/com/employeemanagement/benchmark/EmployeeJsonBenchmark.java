@@ -0,0 +1,57 @@
+package com.employeemanagement.benchmark;
+
+import com.employeemanagement.model.HttpErrorCode;
+import com.employeemanagement.model.dto.ApiErrorResponse;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes the response bodies with an {@link ObjectMapper} configured the way Spring Boot configures the one used by
+ * the WebFlux codecs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeJsonBenchmark {
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final EmployeeResponseDto employee = EmployeeResponseDto.builder()
+            .id(new ObjectId().toHexString())
+            .firstName("Héctor")
+            .lastName("Cortez")
+            .email("hc@email.com")
+            .version(3L)
+            .build();
+    private final ApiErrorResponse error = ApiErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .message("Employee not found for the requested ID")
+            .errorCode(HttpErrorCode.RESOURCE_NOT_FOUND)
+            .build();
+
+    @Benchmark
+    public byte[] encodeEmployee() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public byte[] encodeError() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(error);
+    }
+}
@@ -0,0 +1,94 @@
+package com.employeemanagement.benchmark;
+
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes a 100k-employee list page the way the WebFlux JSON encoder does, into pooled Netty buffers, with the
+ * default {@link ObjectMapper} and with the tuned one. Gzip is measured on the encoded payload, as Reactor Netty
+ * compresses it after encoding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeListEncodingBenchmark {
+    private static final int EMPLOYEES = 100_000;
+    private static final ResolvableType LIST_TYPE =
+            ResolvableType.forClassWithGenerics(List.class, EmployeeResponseDto.class);
+
+    @Param({"default", "tuned"})
+    private String codec;
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+    private Jackson2JsonEncoder encoder;
+    private List<EmployeeResponseDto> employees;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("tuned".equals(codec))
+            builder.modulesToInstall(new BlackbirdModule());
+        ObjectMapper objectMapper = builder.build();
+        encoder = new Jackson2JsonEncoder(objectMapper);
+        employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++)
+            employees.add(EmployeeResponseDto.builder()
+                    .id(new ObjectId().toHexString())
+                    .firstName(STR."First\{i}")
+                    .lastName(STR."Last\{i % 1000}")
+                    .email(STR."employee\{i}@email.com")
+                    .version((long) i % 10)
+                    .build());
+        encoded = objectMapper.writeValueAsBytes(employees);
+        System.out.println(STR."JSON \{encoded.length} bytes, gzip \{gzip().length} bytes");
+    }
+
+    @Benchmark
+    public int encodeList() {
+        DataBuffer buffer = encoder.encodeValue(employees, bufferFactory, LIST_TYPE, MediaType.APPLICATION_JSON, null);
+        int size = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return size;
+    }
+
+    @Benchmark
+    public byte[] gzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(encoded);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,49 @@
+package com.employeemanagement.benchmark;
+
+import com.employeemanagement.document.Employee;
+import com.employeemanagement.model.dto.EmployeeRequestDto;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.model.mapper.EmployeeMapper;
+import com.employeemanagement.model.mapper.EmployeeMapperImpl;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeMapperBenchmark {
+    private final EmployeeMapper employeeMapper = new EmployeeMapperImpl();
+    private final EmployeeRequestDto requestDto = new EmployeeRequestDto("Héctor", "Cortez", "hc@email.com");
+    private final String id = new ObjectId().toHexString();
+    private final Employee document = new Employee(id, "Héctor", "Cortez", "hc@email.com", 3L,
+            Instant.now());
+
+    @Benchmark
+    public Employee toDocument() {
+        return employeeMapper.toDocument(requestDto);
+    }
+
+    @Benchmark
+    public Employee toDocumentWithId() {
+        return employeeMapper.toDocument(requestDto, id);
+    }
+
+    @Benchmark
+    public EmployeeResponseDto toDto() {
+        return employeeMapper.toDto(document);
+    }
+}
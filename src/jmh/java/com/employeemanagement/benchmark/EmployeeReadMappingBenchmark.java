@@ -0,0 +1,89 @@
+package com.employeemanagement.benchmark;
+
+import com.employeemanagement.document.Employee;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.model.mapper.EmployeeMapper;
+import com.employeemanagement.model.mapper.EmployeeMapperImpl;
+import com.employeemanagement.model.mapper.EmployeeResponseDtoReadConverter;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a page of fetched {@code employees} documents the way repository reads used to, into {@link Employee}
+ * entities then copied into DTOs, and the way they do now, as raw documents converted straight into DTOs. Reading
+ * DTOs through the mapping converter with the same converter registered is measured too. Run with {@code -prof gc}
+ * to compare the bytes allocated per page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeReadMappingBenchmark {
+    private static final int PAGE_SIZE = 1000;
+
+    private final EmployeeMapper employeeMapper = new EmployeeMapperImpl();
+    private final EmployeeResponseDtoReadConverter readConverter = new EmployeeResponseDtoReadConverter();
+    private MappingMongoConverter converter;
+    private List<Document> page;
+
+    @Setup
+    public void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(
+                List.of(new EmployeeResponseDtoReadConverter()));
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++)
+            page.add(new Document("_id", new ObjectId())
+                    .append("firstName", STR."First\{i}")
+                    .append("lastName", STR."Last\{i % 100}")
+                    .append("email", STR."employee\{i}@email.com")
+                    .append("version", (long) i % 10)
+                    .append("lastModified", new Date())
+                    .append("_class", Employee.class.getName()));
+    }
+
+    @Benchmark
+    public void readEntityThenMap(Blackhole blackhole) {
+        for (Document document : page)
+            blackhole.consume(employeeMapper.toDto(converter.read(Employee.class, document)));
+    }
+
+    @Benchmark
+    public void readDtoThroughMappingConverter(Blackhole blackhole) {
+        for (Document document : page)
+            blackhole.consume(converter.read(EmployeeResponseDto.class, document));
+    }
+
+    @Benchmark
+    public void readDocumentThenConvert(Blackhole blackhole) {
+        for (Document document : page)
+            blackhole.consume(readConverter.convert(converter.read(Document.class, document)));
+    }
+}
@@ -0,0 +1,124 @@
+package com.employeemanagement.benchmark;
+
+import com.employeemanagement.audit.EmployeeAuditQueue;
+import com.employeemanagement.cache.EmployeeCache;
+import com.employeemanagement.config.EmployeeAuditProperties;
+import com.employeemanagement.config.EmployeeBatchLoaderProperties;
+import com.employeemanagement.config.EmployeeBulkProperties;
+import com.employeemanagement.config.EmployeeCacheProperties;
+import com.employeemanagement.config.EmployeeConcurrencyProperties;
+import com.employeemanagement.config.EmployeeExportProperties;
+import com.employeemanagement.config.EmployeeIdempotencyProperties;
+import com.employeemanagement.event.EmployeeChangeBus;
+import com.employeemanagement.idempotency.EmployeeIdempotencyStore;
+import com.employeemanagement.metrics.EmployeeServiceMetrics;
+import com.employeemanagement.model.dto.EmployeeRequestDto;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.model.mapper.EmployeeMapperImpl;
+import com.employeemanagement.outbox.EmployeeOutbox;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.search.EmployeeSuggestIndex;
+import com.employeemanagement.service.EmployeeBatchLoader;
+import com.employeemanagement.service.EmployeeService;
+import com.employeemanagement.service.EmployeeServiceImpl;
+import com.employeemanagement.throttling.ConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the service against {@link InMemoryEmployeeRepository}, so the numbers cover the mapping, caching, indexing
+ * and metrics done per call, but not Mongo.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeServiceBenchmark {
+    private static final int EMPLOYEES = 1_000;
+
+    private EmployeeService employeeService;
+    private EmployeeCache employeeCache;
+    private String employeeId;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        EmployeeRepository employeeRepository = InMemoryEmployeeRepository.create();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        employeeCache = new EmployeeCache(new EmployeeCacheProperties(EMPLOYEES * 2, Duration.ofMinutes(5)),
+                meterRegistry, new EmployeeChangeBus());
+        ConcurrencyLimiter concurrencyLimiter =
+                new ConcurrencyLimiter(new EmployeeConcurrencyProperties(256, Duration.ofSeconds(1)), meterRegistry);
+        // a single caller never has loads to merge with, so batching would only add its window to every miss
+        EmployeeBatchLoader batchLoader = new EmployeeBatchLoader(new EmployeeBatchLoaderProperties(false,
+                Duration.ofMillis(1), 100), employeeRepository, concurrencyLimiter, meterRegistry);
+        // nothing drains the history queue here, dropping the oldest change keeps every write paying for an enqueue
+        EmployeeAuditQueue auditQueue = new EmployeeAuditQueue(new EmployeeAuditProperties(true, 10_000,
+                EmployeeAuditProperties.Overflow.DROP_OLDEST, 500, Duration.ofSeconds(1), Duration.ofSeconds(2),
+                EmployeeAuditProperties.CollectionType.TIME_SERIES, DataSize.ofMegabytes(256), Path.of("audit"),
+                DataSize.ofMegabytes(64)), meterRegistry);
+        EmployeeIdempotencyProperties idempotencyProperties =
+                new EmployeeIdempotencyProperties(false, Duration.ofHours(24), 10_000);
+        employeeService = new EmployeeServiceImpl(employeeRepository, new EmployeeMapperImpl(),
+                new EmployeeExportProperties(500), new EmployeeBulkProperties(1000), employeeCache,
+                new EmployeeSuggestIndex(), new EmployeeServiceMetrics(meterRegistry), concurrencyLimiter,
+                batchLoader, auditQueue, InMemoryEmployeeRepository.auditRepository(), EmployeeOutbox.disabled(),
+                new EmployeeIdempotencyStore(InMemoryEmployeeRepository.idempotencyRepository(), idempotencyProperties,
+                        meterRegistry), idempotencyProperties);
+        for (int i = 0; i < EMPLOYEES; i++)
+            employeeId = employeeService.createEmployee(request(i)).block().id();
+    }
+
+    /**
+     * Deletes what it creates, so the store does not grow with the number of invocations.
+     */
+    @Benchmark
+    public EmployeeResponseDto createAndDeleteEmployee() {
+        EmployeeResponseDto created = employeeService.createEmployee(request(EMPLOYEES + sequence++)).block();
+        employeeService.deleteEmployeeById(created.id()).block();
+        return created;
+    }
+
+    @Benchmark
+    public EmployeeResponseDto getEmployeeByIdCached() {
+        return employeeService.getEmployeeById(employeeId).block();
+    }
+
+    @Benchmark
+    public EmployeeResponseDto getEmployeeByIdUncached() {
+        employeeCache.invalidate(employeeId);
+        return employeeService.getEmployeeById(employeeId).block();
+    }
+
+    @Benchmark
+    public EmployeeResponseDto updateEmployee() {
+        return employeeService.updateEmployee(employeeId, null,
+                new EmployeeRequestDto(STR."Name\{sequence++}", null, null)).block();
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDto> listEmployees() {
+        return employeeService.listEmployees(null, 100).collectList().block();
+    }
+
+    private static EmployeeRequestDto request(long i) {
+        return new EmployeeRequestDto(STR."First\{i}", STR."Last\{i}", STR."employee\{i}@email.com");
+    }
+}
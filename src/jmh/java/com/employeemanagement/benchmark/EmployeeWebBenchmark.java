@@ -0,0 +1,145 @@
+package com.employeemanagement.benchmark;
+
+import com.employeemanagement.audit.EmployeeAuditQueue;
+import com.employeemanagement.cache.EmployeeCache;
+import com.employeemanagement.config.EmployeeAuditProperties;
+import com.employeemanagement.config.EmployeeBatchLoaderProperties;
+import com.employeemanagement.config.EmployeeBulkProperties;
+import com.employeemanagement.config.EmployeeCacheProperties;
+import com.employeemanagement.config.EmployeeConcurrencyProperties;
+import com.employeemanagement.config.EmployeeExportProperties;
+import com.employeemanagement.config.EmployeeIdempotencyProperties;
+import com.employeemanagement.controller.EmployeeController;
+import com.employeemanagement.controller.EmployeeHandler;
+import com.employeemanagement.controller.EmployeeRouter;
+import com.employeemanagement.controller.RestHandlerException;
+import com.employeemanagement.event.EmployeeChangeBus;
+import com.employeemanagement.idempotency.EmployeeIdempotencyStore;
+import com.employeemanagement.metrics.EmployeeServiceMetrics;
+import com.employeemanagement.model.dto.EmployeeRequestDto;
+import com.employeemanagement.model.mapper.EmployeeMapperImpl;
+import com.employeemanagement.outbox.EmployeeOutbox;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.search.EmployeeSuggestIndex;
+import com.employeemanagement.service.EmployeeBatchLoader;
+import com.employeemanagement.service.EmployeeService;
+import com.employeemanagement.service.EmployeeServiceImpl;
+import com.employeemanagement.throttling.ConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.employeemanagement.utils.EmployeeManagementUtils.BASE_URL;
+
+/**
+ * Sends requests straight to the WebFlux {@link HttpHandler}, with no server or network in between, so the
+ * difference between the two modes is the cost of dispatching to {@link EmployeeController} versus
+ * {@link EmployeeRouter}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeWebBenchmark {
+    @Param({"annotated", "functional"})
+    private String mode;
+
+    private AnnotationConfigApplicationContext context;
+    private HttpHandler httpHandler;
+    private String employeeId;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmployeeRepository employeeRepository = InMemoryEmployeeRepository.create();
+        ConcurrencyLimiter concurrencyLimiter =
+                new ConcurrencyLimiter(new EmployeeConcurrencyProperties(256, Duration.ofSeconds(1)), meterRegistry);
+        EmployeeAuditProperties auditProperties = new EmployeeAuditProperties(true, 10_000,
+                EmployeeAuditProperties.Overflow.DROP_OLDEST, 500, Duration.ofSeconds(1), Duration.ofSeconds(2),
+                EmployeeAuditProperties.CollectionType.TIME_SERIES, DataSize.ofMegabytes(256), Path.of("audit"),
+                DataSize.ofMegabytes(64));
+        EmployeeIdempotencyProperties idempotencyProperties =
+                new EmployeeIdempotencyProperties(false, Duration.ofHours(24), 10_000);
+        EmployeeService employeeService = new EmployeeServiceImpl(employeeRepository,
+                new EmployeeMapperImpl(), new EmployeeExportProperties(500), new EmployeeBulkProperties(1000),
+                new EmployeeCache(new EmployeeCacheProperties(1000, Duration.ofMinutes(5)), meterRegistry,
+                        new EmployeeChangeBus()),
+                new EmployeeSuggestIndex(), new EmployeeServiceMetrics(meterRegistry), concurrencyLimiter,
+                new EmployeeBatchLoader(new EmployeeBatchLoaderProperties(false, Duration.ofMillis(1), 100),
+                        employeeRepository, concurrencyLimiter, meterRegistry),
+                new EmployeeAuditQueue(auditProperties, meterRegistry), InMemoryEmployeeRepository.auditRepository(),
+                EmployeeOutbox.disabled(), new EmployeeIdempotencyStore(
+                        InMemoryEmployeeRepository.idempotencyRepository(), idempotencyProperties, meterRegistry),
+                idempotencyProperties);
+        for (int i = 0; i < 100; i++)
+            employeeId = employeeService.createEmployee(
+                    new EmployeeRequestDto(STR."First\{i}", STR."Last\{i}", STR."employee\{i}@email.com")).block().id();
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("benchmark", Map.of("employee-management.web.mode", mode)));
+        context.registerBean(EmployeeService.class, () -> employeeService);
+        context.register(WebConfig.class, EmployeeController.class, RestHandlerException.class,
+                EmployeeRouter.class, EmployeeHandler.class);
+        context.refresh();
+        httpHandler = WebHttpHandlerBuilder.applicationContext(context).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public HttpStatusCode getEmployeeById() {
+        return exchange(MockServerHttpRequest.get(STR."\{BASE_URL}/\{employeeId}").build());
+    }
+
+    @Benchmark
+    public HttpStatusCode getMissingEmployee() {
+        return exchange(MockServerHttpRequest.get(STR."\{BASE_URL}/missing").build());
+    }
+
+    @Benchmark
+    public HttpStatusCode listEmployees() {
+        return exchange(MockServerHttpRequest.get(STR."\{BASE_URL}?limit=20").build());
+    }
+
+    private HttpStatusCode exchange(MockServerHttpRequest request) {
+        MockServerHttpResponse response = new MockServerHttpResponse();
+        httpHandler.handle(request, response).block();
+        return response.getStatusCode();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableWebFlux
+    static class WebConfig {
+    }
+}
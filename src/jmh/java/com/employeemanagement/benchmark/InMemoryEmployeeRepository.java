@@ -0,0 +1,111 @@
+package com.employeemanagement.benchmark;
+
+import com.employeemanagement.document.Employee;
+import com.employeemanagement.model.mapper.EmployeeMapper;
+import com.employeemanagement.model.mapper.EmployeeMapperImpl;
+import com.employeemanagement.repository.EmployeeAuditRepository;
+import com.employeemanagement.repository.EmployeeIdempotencyRepository;
+import com.employeemanagement.repository.EmployeeRepository;
+import org.bson.types.ObjectId;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link EmployeeRepository} stand-in keeping employees in a sorted map, so the service can be measured without
+ * Mongo. Only the methods used by the service are backed; any other call fails.
+ */
+final class InMemoryEmployeeRepository {
+    // reads return DTOs like the Mongo converter does
+    private static final EmployeeMapper MAPPER = new EmployeeMapperImpl();
+
+    private final ConcurrentSkipListMap<String, Employee> employees = new ConcurrentSkipListMap<>();
+
+    private InMemoryEmployeeRepository() {
+    }
+
+    static EmployeeRepository create() {
+        InMemoryEmployeeRepository repository = new InMemoryEmployeeRepository();
+        return (EmployeeRepository) Proxy.newProxyInstance(EmployeeRepository.class.getClassLoader(),
+                new Class<?>[]{EmployeeRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "insert" -> repository.insert((Employee) args[0]);
+                    case "findVersionById" -> Mono.justOrEmpty(repository.employees.get((String) args[0]));
+                    case "readById" -> Mono.justOrEmpty(repository.employees.get((String) args[0])).map(MAPPER::toDto);
+                    case "readAllById" -> Flux.fromIterable((Collection<?>) args[0])
+                            .mapNotNull(repository.employees::get)
+                            .map(MAPPER::toDto);
+                    case "existsById" -> Mono.just(repository.employees.containsKey((String) args[0]));
+                    case "readByEmail" -> repository.findByEmail((String) args[0]).map(MAPPER::toDto);
+                    case "findAndModify" -> repository.findAndModify((String) args[0], (List<?>) args[1],
+                            (Employee) args[2]);
+                    case "readPage" -> repository.page((String) args[0], (Integer) args[1]).map(MAPPER::toDto);
+                    case "findAndDeleteById" -> Mono.justOrEmpty(repository.employees.remove((String) args[0]));
+                    case "toString" -> InMemoryEmployeeRepository.class.getSimpleName();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * @return an {@link EmployeeAuditRepository} failing every call, as the history is not measured
+     */
+    static EmployeeAuditRepository auditRepository() {
+        return unsupported(EmployeeAuditRepository.class);
+    }
+
+    /**
+     * @return an {@link EmployeeIdempotencyRepository} failing every call, as creates are measured without a key
+     */
+    static EmployeeIdempotencyRepository idempotencyRepository() {
+        return unsupported(EmployeeIdempotencyRepository.class);
+    }
+
+    private static <T> T unsupported(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+
+    private Mono<Employee> insert(Employee employee) {
+        Employee inserted = new Employee(new ObjectId().toHexString(), employee.getFirstName(),
+                employee.getLastName(), employee.getEmail(), 0L, Instant.now());
+        employees.put(inserted.getId(), inserted);
+        return Mono.just(inserted);
+    }
+
+    private Mono<Employee> findByEmail(String email) {
+        return Flux.fromIterable(employees.values()).filter(employee -> email.equals(employee.getEmail())).next();
+    }
+
+    private Mono<Employee> findAndModify(String id, List<?> expectedVersions, Employee changes) {
+        AtomicBoolean modified = new AtomicBoolean();
+        Employee updated = employees.computeIfPresent(id, (key, current) -> {
+            if (expectedVersions != null && !expectedVersions.contains(current.getVersion()))
+                return current;
+            modified.set(true);
+            return new Employee(id, orElse(changes.getFirstName(), current.getFirstName()),
+                    orElse(changes.getLastName(), current.getLastName()),
+                    orElse(changes.getEmail(), current.getEmail()), current.getVersion() + 1, Instant.now());
+        });
+        return modified.get() ? Mono.just(updated) : Mono.empty();
+    }
+
+    private Flux<Employee> page(String afterId, int limit) {
+        Map<String, Employee> tail = afterId == null ? employees : employees.tailMap(afterId, false);
+        // hex ids sort like the ObjectIds they encode
+        return Flux.fromIterable(tail.values()).take(limit);
+    }
+
+    private static String orElse(String value, String fallback) {
+        return value == null || value.isBlank() ? fallback : value;
+    }
+}
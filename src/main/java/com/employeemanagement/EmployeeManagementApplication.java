@@ -1,12 +1,16 @@
 package com.employeemanagement;
 
+import com.employeemanagement.metrics.SchedulerMetrics;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class EmployeeManagementApplication {
 
 	public static void main(String[] args) {
+		SchedulerMetrics.enable();
 		SpringApplication.run(EmployeeManagementApplication.class, args);
 	}
 
@@ -0,0 +1,91 @@
+package com.employeemanagement.audit;
+
+import com.employeemanagement.model.dto.EmployeeAuditEntryDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only local log of the changes that could not be written to Mongo in time, one JSON object per line. The log
+ * is split into memory-mapped segments named {@code employee-audit-<epoch millis>.log}, so appending is a copy into
+ * memory and the page cache is flushed once per batch; the unused tail of a segment is left zeroed.
+ */
+public class EmployeeAuditFile implements AutoCloseable {
+    private static final byte NEW_LINE = '\n';
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ObjectWriter writer;
+    // a lock rather than synchronized, so callers on virtual threads do not pin their carrier while writing
+    private final ReentrantLock lock = new ReentrantLock();
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+
+    public EmployeeAuditFile(Path directory, int segmentSize, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.writer = objectMapper.writerFor(EmployeeAuditEntryDto.class);
+    }
+
+    /**
+     * Appends the changes and flushes them to the storage device.
+     */
+    public void append(List<EmployeeAuditEntryDto> entries) {
+        lock.lock();
+        try {
+            for (EmployeeAuditEntryDto entry : entries) {
+                byte[] line = writer.writeValueAsBytes(entry);
+                if (line.length + 1 > segmentSize)
+                    throw new IllegalArgumentException("Audit entry is larger than a log segment.");
+                if (segment == null || segment.remaining() < line.length + 1)
+                    nextSegment();
+                segment.put(line).put(NEW_LINE);
+            }
+            if (segment != null)
+                segment.force();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closeSegment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void nextSegment() throws IOException {
+        closeSegment();
+        Files.createDirectories(directory);
+        Path file = directory.resolve(STR."employee-audit-\{System.currentTimeMillis()}.log");
+        while (Files.exists(file))
+            file = directory.resolve(STR."employee-audit-\{System.currentTimeMillis()}-\{System.nanoTime()}.log");
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+
+    private void closeSegment() throws IOException {
+        if (segment != null)
+            segment.force();
+        if (channel != null)
+            channel.close();
+        segment = null;
+        channel = null;
+    }
+}
@@ -0,0 +1,121 @@
+package com.employeemanagement.audit;
+
+import com.employeemanagement.config.EmployeeAuditProperties;
+import com.employeemanagement.model.dto.EmployeeAuditEntryDto;
+import com.employeemanagement.model.dto.EmployeeAuditEntryDto.Action;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded queue of the changes made to employees, waiting for the {@link EmployeeAuditWriter} to write them. Neither
+ * recording nor draining ever takes a lock or waits, so requests only pay for an allocation and a few CAS. Once the
+ * queue is full, {@code employee-management.audit.overflow} decides which change is lost; lost changes are counted as
+ * {@code employee.audit.dropped} and the queue length is published as {@code employee.audit.queue.size}.
+ */
+@Component
+public class EmployeeAuditQueue {
+    private final boolean enabled;
+    private final int capacity;
+    private final EmployeeAuditProperties.Overflow overflow;
+    private final Queue<EmployeeAuditEntryDto> queue = new ConcurrentLinkedQueue<>();
+    // the size of a ConcurrentLinkedQueue is not constant time, so it is tracked here and bounds the queue
+    private final AtomicInteger size = new AtomicInteger();
+    private final Counter dropped;
+
+    public EmployeeAuditQueue(EmployeeAuditProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.capacity = properties.queueCapacity();
+        this.overflow = properties.overflow();
+        Gauge.builder("employee.audit.queue.size", size, AtomicInteger::get)
+                .description("Employee changes waiting to be written to the history")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("employee.audit.dropped")
+                .description("Employee changes lost because the history queue was full")
+                .register(meterRegistry);
+    }
+
+    public void created(EmployeeResponseDto employee) {
+        record(Action.CREATED, employee);
+    }
+
+    public void updated(EmployeeResponseDto employee) {
+        record(Action.UPDATED, employee);
+    }
+
+    public void deleted(String employeeId) {
+        if (enabled)
+            offer(EmployeeAuditEntryDto.builder()
+                    .employeeId(employeeId)
+                    .action(Action.DELETED)
+                    .timestamp(Instant.now())
+                    .build());
+    }
+
+    /**
+     * Takes up to {@code maxEntries} changes off the queue, oldest first.
+     *
+     * @return the changes taken, empty when there were none
+     */
+    public List<EmployeeAuditEntryDto> drain(int maxEntries) {
+        List<EmployeeAuditEntryDto> entries = new ArrayList<>(Math.min(maxEntries, size.get()));
+        EmployeeAuditEntryDto entry;
+        while (entries.size() < maxEntries && (entry = queue.poll()) != null) {
+            size.decrementAndGet();
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private void record(Action action, EmployeeResponseDto employee) {
+        if (enabled)
+            offer(EmployeeAuditEntryDto.builder()
+                    .employeeId(employee.id())
+                    .action(action)
+                    .version(employee.version())
+                    .firstName(employee.firstName())
+                    .lastName(employee.lastName())
+                    .email(employee.email())
+                    .timestamp(employee.lastModified() == null ? Instant.now() : employee.lastModified())
+                    .build());
+    }
+
+    private void offer(EmployeeAuditEntryDto entry) {
+        while (!tryReserve()) {
+            if (overflow == EmployeeAuditProperties.Overflow.DROP_NEWEST) {
+                dropped.increment();
+                return;
+            }
+            // the slot of the oldest change goes to the new one; when a drain emptied the queue meanwhile, retry
+            if (queue.poll() != null) {
+                dropped.increment();
+                queue.offer(entry);
+                return;
+            }
+        }
+        queue.offer(entry);
+    }
+
+    private boolean tryReserve() {
+        while (true) {
+            int current = size.get();
+            if (current >= capacity)
+                return false;
+            if (size.compareAndSet(current, current + 1))
+                return true;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.employeemanagement.audit;
+
+import com.employeemanagement.config.EmployeeAuditProperties;
+import com.employeemanagement.model.dto.EmployeeAuditEntryDto;
+import com.employeemanagement.repository.EmployeeAuditRepository;
+import com.employeemanagement.scheduling.BlockingCalls;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Drains the {@link EmployeeAuditQueue} every {@code employee-management.audit.flush-interval} and writes the changes
+ * to the {@code employee_audit} collection in batches. A batch Mongo fails on or does not acknowledge within
+ * {@code mongo-timeout} is appended to the local {@link EmployeeAuditFile} instead, so a slow Mongo never makes the
+ * queue overflow; as the insert may still complete after the timeout, such changes can end up in both. Written
+ * changes are counted as {@code employee.audit.written}, tagged by {@code target}, and the ones neither could take as
+ * {@code employee.audit.lost}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "employee-management.audit", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class EmployeeAuditWriter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeAuditWriter.class);
+
+    private final EmployeeAuditQueue queue;
+    private final EmployeeAuditRepository auditRepository;
+    private final BlockingCalls blockingCalls;
+    private final EmployeeAuditProperties properties;
+    private final EmployeeAuditFile file;
+    private final Counter writtenToMongo;
+    private final Counter writtenToFile;
+    private final Counter lost;
+    private Disposable subscription;
+
+    public EmployeeAuditWriter(EmployeeAuditQueue queue, EmployeeAuditRepository auditRepository,
+                               BlockingCalls blockingCalls, EmployeeAuditProperties properties,
+                               ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.queue = queue;
+        this.auditRepository = auditRepository;
+        this.blockingCalls = blockingCalls;
+        this.properties = properties;
+        this.file = new EmployeeAuditFile(properties.logDirectory(), (int) properties.logSegmentSize().toBytes(),
+                objectMapper);
+        this.writtenToMongo = written(meterRegistry, "mongo");
+        this.writtenToFile = written(meterRegistry, "file");
+        this.lost = Counter.builder("employee.audit.lost")
+                .description("Employee changes neither Mongo nor the local log could take")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = auditRepository.createCollection()
+                .onErrorResume(ex -> {
+                    LOGGER.warn("Could not create the employee audit collection", ex);
+                    return Mono.empty();
+                })
+                .thenMany(Flux.interval(properties.flushInterval()))
+                .onBackpressureDrop()
+                .concatMap(tick -> flush())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (subscription != null)
+            subscription.dispose();
+        // what is still queued gets one last chance, Mongo being bounded by its timeout
+        flush().block();
+        file.close();
+    }
+
+    /**
+     * Writes batches until the queue is empty.
+     */
+    private Mono<Void> flush() {
+        return Mono.defer(() -> {
+                    List<EmployeeAuditEntryDto> batch = queue.drain(properties.batchSize());
+                    return batch.isEmpty() ? Mono.just(0) : write(batch).thenReturn(batch.size());
+                })
+                .repeat()
+                .takeWhile(written -> written > 0)
+                .then();
+    }
+
+    private Mono<Void> write(List<EmployeeAuditEntryDto> batch) {
+        return auditRepository.insertAll(batch)
+                .timeout(properties.mongoTimeout())
+                .doOnSuccess(done -> writtenToMongo.increment(batch.size()))
+                .onErrorResume(ex -> {
+                    LOGGER.warn("Could not write {} employee changes to Mongo, appending them to the local log",
+                            batch.size(), ex);
+                    return appendToFile(batch);
+                });
+    }
+
+    private Mono<Void> appendToFile(List<EmployeeAuditEntryDto> batch) {
+        return blockingCalls.call(() -> {
+                    file.append(batch);
+                    return batch.size();
+                })
+                .doOnNext(writtenToFile::increment)
+                .onErrorResume(ex -> {
+                    LOGGER.error("Could not append {} employee changes to the local log", batch.size(), ex);
+                    lost.increment(batch.size());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static Counter written(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("employee.audit.written")
+                .description("Employee changes written to the history")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,87 @@
+package com.employeemanagement.cache;
+
+import com.employeemanagement.config.EmployeeCacheProperties;
+import com.employeemanagement.event.EmployeeChangeBus;
+import com.employeemanagement.event.EmployeeChangeEvent;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of employees by ID. Hits, misses and evictions are published as the {@code cache.*} meters
+ * tagged {@code cache=employees}. Changes seen on the {@link EmployeeChangeBus}, including the ones made by other
+ * nodes, evict the stale entries.
+ */
+@Component
+public class EmployeeCache {
+    public static final String CACHE_NAME = "employees";
+
+    private final AsyncCache<String, EmployeeResponseDto> cache;
+
+    public EmployeeCache(EmployeeCacheProperties properties, MeterRegistry meterRegistry,
+                         EmployeeChangeBus changeBus) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        changeBus.events().subscribe(this::onChange);
+    }
+
+    /**
+     * Returns the cached employee or loads it. Concurrent misses for the same ID share a single load, and an empty
+     * load is not cached.
+     */
+    public Mono<EmployeeResponseDto> get(String id, Function<String, Mono<EmployeeResponseDto>> loader) {
+        Assert.notNull(id, "Employee ID must not be null.");
+        // a subscriber cancelling must not cancel the load other subscribers are waiting on
+        return Mono.fromFuture(() -> cache.get(id, (key, executor) -> loader.apply(key).toFuture()), true);
+    }
+
+    /**
+     * @return the cached employee, {@literal null} when it is not cached or still loading
+     */
+    public EmployeeResponseDto peek(String id) {
+        CompletableFuture<EmployeeResponseDto> cached = cache.getIfPresent(id);
+        return cached == null || !cached.isDone() || cached.isCompletedExceptionally() ? null : cached.join();
+    }
+
+    public void put(EmployeeResponseDto responseDto) {
+        Assert.notNull(responseDto, "Employee to cache must not be null.");
+        cache.put(responseDto.id(), CompletableFuture.completedFuture(responseDto));
+    }
+
+    public void invalidate(String id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    private void onChange(EmployeeChangeEvent event) {
+        switch (event.type()) {
+            case RESET -> invalidateAll();
+            case DELETED -> invalidate(event.employeeId());
+            case CHANGED -> {
+                // writes made through this node are already cached, so only older entries are evicted
+                if (!isCachedAtVersion(event.employeeId(), event.version()))
+                    invalidate(event.employeeId());
+            }
+        }
+    }
+
+    private boolean isCachedAtVersion(String id, Long version) {
+        EmployeeResponseDto responseDto = peek(id);
+        return version != null && responseDto != null && responseDto.version() != null && responseDto.version() >= version;
+    }
+}
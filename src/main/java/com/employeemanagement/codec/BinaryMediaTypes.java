@@ -0,0 +1,24 @@
+package com.employeemanagement.codec;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Binary media types the employee endpoints negotiate besides JSON, for internal callers that don't need a text
+ * format.
+ */
+public final class BinaryMediaTypes {
+    public static final String APPLICATION_CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+    public static final MediaType APPLICATION_CBOR = MediaType.APPLICATION_CBOR;
+    /**
+     * A stream of concatenated CBOR items (RFC 8742), the binary counterpart of NDJSON.
+     */
+    public static final String APPLICATION_CBOR_SEQ_VALUE = "application/cbor-seq";
+    public static final MediaType APPLICATION_CBOR_SEQ = MediaType.parseMediaType(APPLICATION_CBOR_SEQ_VALUE);
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+    public static final String APPLICATION_STREAM_SMILE_VALUE = "application/stream+x-jackson-smile";
+    public static final MediaType APPLICATION_STREAM_SMILE = MediaType.parseMediaType(APPLICATION_STREAM_SMILE_VALUE);
+
+    private BinaryMediaTypes() {
+    }
+}
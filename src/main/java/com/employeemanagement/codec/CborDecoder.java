@@ -0,0 +1,55 @@
+package com.employeemanagement.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * {@link Jackson2CborDecoder} that also decodes a CBOR array or a CBOR sequence into a {@link Flux}, which the
+ * Spring one rejects. Jackson has no non-blocking CBOR parser, so the body is split into its items as it arrives and
+ * each item is read on its own: a bulk body may be of any size, while each item is held within the configured
+ * in-memory limit ({@code spring.codec.max-in-memory-size}), beyond which the request fails with 413.
+ */
+public class CborDecoder extends Jackson2CborDecoder {
+    public CborDecoder(ObjectMapper objectMapper) {
+        super(objectMapper, BinaryMediaTypes.APPLICATION_CBOR, BinaryMediaTypes.APPLICATION_CBOR_SEQ);
+    }
+
+    @Override
+    public Flux<Object> decode(Publisher<DataBuffer> input, ResolvableType elementType, MimeType mimeType,
+                               Map<String, Object> hints) {
+        ObjectReader reader = getObjectMapper().readerFor(getJavaType(elementType.getType(), null));
+        return Flux.defer(() -> {
+            CborItemSplitter splitter = new CborItemSplitter(getMaxInMemorySize());
+            return Flux.from(input)
+                    .concatMapIterable(buffer -> {
+                        try {
+                            return splitter.split(buffer);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .concatWith(Mono.fromRunnable(splitter::complete))
+                    .map(item -> readValue(reader, item));
+        });
+    }
+
+    private static Object readValue(ObjectReader reader, byte[] item) {
+        try {
+            return reader.readValue(item);
+        } catch (IOException ex) {
+            throw new DecodingException(STR."CBOR decoding error: \{ex.getMessage()}", ex);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.employeemanagement.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Jackson2CborEncoder} that also encodes multi-value publishers, which the Spring one rejects: as one CBOR
+ * item per element for {@code application/cbor-seq}, flushed as they come, or as a single CBOR array otherwise.
+ */
+public class CborEncoder extends Jackson2CborEncoder {
+    public CborEncoder(ObjectMapper objectMapper) {
+        super(objectMapper, BinaryMediaTypes.APPLICATION_CBOR, BinaryMediaTypes.APPLICATION_CBOR_SEQ);
+        setStreamingMediaTypes(List.of(BinaryMediaTypes.APPLICATION_CBOR_SEQ));
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Mono<?> mono)
+            return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+        if (mimeType != null && BinaryMediaTypes.APPLICATION_CBOR_SEQ.isCompatibleWith(mimeType))
+            return Flux.from(inputStream).map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints));
+        ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+        return Flux.from(inputStream).collectList()
+                .map(list -> encodeValue(list, bufferFactory, listType, mimeType, hints))
+                .flux();
+    }
+}
@@ -0,0 +1,206 @@
+package com.employeemanagement.codec;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Splits CBOR bytes into their top-level data items as the bytes arrive, reading only the item heads (RFC 8949,
+ * section 3) and leaving the decoding of each item to Jackson. A top-level array is unwrapped into its elements, so
+ * a CBOR array and a CBOR sequence both come out as one item per element. Only the item being split is held in
+ * memory, within {@code maxItemSize}.
+ * <p>
+ * Not thread-safe: one instance splits one body.
+ */
+final class CborItemSplitter {
+    private static final int MAJOR_ARRAY = 4;
+    private static final int MAJOR_SIMPLE = 7;
+    private static final int INDEFINITE = 31;
+    private static final int MAX_DEPTH = 1000;
+
+    private final int maxItemSize;
+    private byte[] item = new byte[256];
+    private int size;
+    // items still expected by each container open in the current item, -1 for an indefinite-length one
+    private long[] expected = new long[16];
+    private int depth;
+    // bytes of a string still to be copied
+    private long payload;
+    private int head = -1;
+    private int headBytes;
+    private long headValue;
+    private boolean started;
+    // elements of the top-level array still expected, -1 for an indefinite-length one, 0 once it ended
+    private long arrayElements = -2;
+
+    CborItemSplitter(int maxItemSize) {
+        this.maxItemSize = maxItemSize;
+    }
+
+    /**
+     * @return the items completed by {@code buffer}, encoded
+     * @throws DataBufferLimitException when an item is larger than {@code maxItemSize}
+     * @throws DecodingException        when the bytes are not well-formed CBOR
+     */
+    List<byte[]> split(DataBuffer buffer) {
+        List<byte[]> items = new ArrayList<>();
+        while (buffer.readableByteCount() > 0) {
+            if (payload > 0) {
+                int length = (int) Math.min(payload, buffer.readableByteCount());
+                ensureCapacity(length);
+                buffer.read(item, size, length);
+                size += length;
+                payload -= length;
+                if (payload == 0)
+                    completed(items);
+                continue;
+            }
+            int b = buffer.read() & 0xff;
+            ensureCapacity(1);
+            item[size++] = (byte) b;
+            if (head < 0) {
+                head = b;
+                headBytes = argumentBytes(b & 0x1f);
+                headValue = headBytes > 0 ? 0 : b & 0x1f;
+            } else {
+                headValue = headValue << 8 | b;
+                headBytes--;
+            }
+            if (headBytes == 0) {
+                int initial = head;
+                head = -1;
+                onHead(initial >>> 5, initial & 0x1f, headValue, items);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * @throws DecodingException when the body ended within an item, or within the top-level array
+     */
+    void complete() {
+        if (size > 0 || arrayElements > 0 || arrayElements == -1)
+            throw new DecodingException("CBOR decoding error: unexpected end of the body");
+    }
+
+    private void onHead(int major, int additional, long value, List<byte[]> items) {
+        if (!started) {
+            started = true;
+            if (major == MAJOR_ARRAY) {
+                // the array itself is not an item, only its elements are
+                size = 0;
+                if (value < 0)
+                    throw new DecodingException("CBOR decoding error: top-level array too large");
+                arrayElements = additional == INDEFINITE ? -1 : value;
+                return;
+            }
+        }
+        if (major == MAJOR_SIMPLE && additional == INDEFINITE) {
+            onBreak(items);
+            return;
+        }
+        if (arrayElements == 0)
+            throw new DecodingException("CBOR decoding error: unexpected data after the top-level array");
+        switch (major) {
+            case 2, 3 -> {
+                if (additional == INDEFINITE)
+                    open(-1);
+                else if ((payload = checkedLength(value)) == 0)
+                    completed(items);
+            }
+            case 4 -> {
+                if (additional == INDEFINITE)
+                    open(-1);
+                else if (checkedLength(value) > 0)
+                    open(value);
+                else
+                    completed(items);
+            }
+            case 5 -> {
+                if (additional == INDEFINITE)
+                    open(-1);
+                else if (checkedLength(value) > 0)
+                    open(Math.multiplyExact(value, 2));
+                else
+                    completed(items);
+            }
+            // a tag and the item following it count as one item
+            case 6 -> {
+            }
+            default -> {
+                if (additional == INDEFINITE)
+                    throw new DecodingException(STR."CBOR decoding error: major type \{major} cannot be indefinite");
+                completed(items);
+            }
+        }
+    }
+
+    private void onBreak(List<byte[]> items) {
+        if (depth > 0 && expected[depth - 1] == -1) {
+            depth--;
+            completed(items);
+        } else if (depth == 0 && size == 1 && arrayElements == -1) {
+            size = 0;
+            arrayElements = 0;
+        } else {
+            throw new DecodingException("CBOR decoding error: unexpected break");
+        }
+    }
+
+    private void open(long items) {
+        if (depth == MAX_DEPTH)
+            throw new DecodingException(STR."CBOR decoding error: nesting deeper than \{MAX_DEPTH}");
+        if (depth == expected.length)
+            expected = Arrays.copyOf(expected, depth * 2);
+        expected[depth++] = items;
+    }
+
+    // one item ended, which may end the containers it was the last item of
+    private void completed(List<byte[]> items) {
+        while (depth > 0) {
+            long remaining = expected[depth - 1];
+            if (remaining == -1 || (expected[depth - 1] = remaining - 1) > 0)
+                return;
+            depth--;
+        }
+        items.add(Arrays.copyOf(item, size));
+        size = 0;
+        if (arrayElements > 0)
+            arrayElements--;
+    }
+
+    // bytes following the initial byte of a head to make up its argument
+    private static int argumentBytes(int additional) {
+        return switch (additional) {
+            case 24 -> 1;
+            case 25 -> 2;
+            case 26 -> 4;
+            case 27 -> 8;
+            case 28, 29, 30 -> throw new DecodingException(
+                    STR."CBOR decoding error: reserved additional information \{additional}");
+            default -> 0;
+        };
+    }
+
+    private long checkedLength(long length) {
+        // lengths beyond the limit, including those too large for a long, are rejected before reading the item
+        if (length < 0 || maxItemSize >= 0 && length > maxItemSize)
+            throw tooLarge();
+        return length;
+    }
+
+    private void ensureCapacity(int length) {
+        if (maxItemSize >= 0 && size + length > maxItemSize)
+            throw tooLarge();
+        if (size + length > item.length)
+            item = Arrays.copyOf(item, Math.max(size + length, item.length * 2));
+    }
+
+    private DataBufferLimitException tooLarge() {
+        return new DataBufferLimitException(STR."A CBOR item of the request body exceeds \{maxItemSize} bytes.");
+    }
+}
@@ -0,0 +1,37 @@
+package com.employeemanagement.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Jackson2SmileEncoder} that encodes a non-streaming multi-value publisher as a single Smile array, where the
+ * Spring one joins the elements with JSON array brackets and commas that Smile parsers reject.
+ */
+public class SmileEncoder extends Jackson2SmileEncoder {
+    public SmileEncoder(ObjectMapper objectMapper) {
+        super(objectMapper, BinaryMediaTypes.APPLICATION_SMILE, BinaryMediaTypes.APPLICATION_STREAM_SMILE);
+        setStreamingMediaTypes(List.of(BinaryMediaTypes.APPLICATION_STREAM_SMILE));
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Flux<?> flux
+                && (mimeType == null || !BinaryMediaTypes.APPLICATION_STREAM_SMILE.isCompatibleWith(mimeType))) {
+            ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+            return flux.collectList()
+                    .map(list -> encodeValue(list, bufferFactory, listType, mimeType, hints))
+                    .flux();
+        }
+        return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+    }
+}
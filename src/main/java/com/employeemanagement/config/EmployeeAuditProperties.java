@@ -0,0 +1,68 @@
+package com.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of the history of the changes made to employees.
+ *
+ * @param enabled        whether changes are recorded
+ * @param queueCapacity  number of changes waiting to be written, beyond which the overflow policy applies
+ * @param overflow       which change is lost when the queue is full
+ * @param batchSize      number of changes written to Mongo with a single {@code insertMany}
+ * @param flushInterval  how often the queued changes are written, so how late the history may lag behind
+ * @param mongoTimeout   time a batch may take to be written to Mongo before it goes to the local log instead
+ * @param collectionType kind of the {@code employee_audit} collection created when it does not exist yet
+ * @param cappedSize     size of the collection when capped, beyond which the oldest changes are removed
+ * @param logDirectory   directory of the local log
+ * @param logSegmentSize size of each memory-mapped file of the local log
+ */
+@ConfigurationProperties(prefix = "employee-management.audit")
+public record EmployeeAuditProperties(@DefaultValue("true") boolean enabled,
+                                      @DefaultValue("10000") int queueCapacity,
+                                      @DefaultValue("drop-newest") Overflow overflow,
+                                      @DefaultValue("500") int batchSize,
+                                      @DefaultValue("1s") Duration flushInterval,
+                                      @DefaultValue("2s") Duration mongoTimeout,
+                                      @DefaultValue("time-series") CollectionType collectionType,
+                                      @DefaultValue("256MB") DataSize cappedSize,
+                                      @DefaultValue("audit") Path logDirectory,
+                                      @DefaultValue("64MB") DataSize logSegmentSize) {
+    public EmployeeAuditProperties {
+        Assert.isTrue(queueCapacity > 0, "Audit queue capacity must be greater than zero.");
+        Assert.isTrue(batchSize > 0, "Audit batch size must be greater than zero.");
+        Assert.isTrue(flushInterval.isPositive(), "Audit flush interval must be positive.");
+        Assert.isTrue(mongoTimeout.isPositive(), "Audit Mongo timeout must be positive.");
+        Assert.isTrue(cappedSize.toBytes() > 0, "Audit capped collection size must be positive.");
+        Assert.isTrue(logSegmentSize.toBytes() >= DataSize.ofKilobytes(64).toBytes()
+                        && logSegmentSize.toBytes() <= Integer.MAX_VALUE,
+                "Audit log segment size must be between 64KB and 2GB.");
+    }
+
+    public enum Overflow {
+        /**
+         * The change that found the queue full is lost.
+         */
+        DROP_NEWEST,
+        /**
+         * The oldest queued change is lost to make room.
+         */
+        DROP_OLDEST
+    }
+
+    public enum CollectionType {
+        /**
+         * Time-series collection keyed by employee ID, needs Mongo 5.0 or later.
+         */
+        TIME_SERIES,
+        /**
+         * Capped collection of {@code capped-size} bytes.
+         */
+        CAPPED
+    }
+}
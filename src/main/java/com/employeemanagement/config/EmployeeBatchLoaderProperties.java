@@ -0,0 +1,24 @@
+package com.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * Settings of the loader merging the employee reads by ID that miss the cache.
+ *
+ * @param enabled      whether concurrent reads are merged, otherwise every read is its own query
+ * @param window       longest time a read waits for others to be merged with
+ * @param maxBatchSize number of reads merged into one query, which is sent right away once reached
+ */
+@ConfigurationProperties(prefix = "employee-management.batch-loader")
+public record EmployeeBatchLoaderProperties(@DefaultValue("true") boolean enabled,
+                                            @DefaultValue("1ms") Duration window,
+                                            @DefaultValue("100") int maxBatchSize) {
+    public EmployeeBatchLoaderProperties {
+        Assert.isTrue(window.isPositive(), "Batch loader window must be positive.");
+        Assert.isTrue(maxBatchSize > 0, "Batch loader max batch size must be greater than zero.");
+    }
+}
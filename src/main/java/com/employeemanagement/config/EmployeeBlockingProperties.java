@@ -0,0 +1,39 @@
+package com.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * Settings of the scheduler blocking calls to other systems run on, away from the event loops.
+ *
+ * @param mode            threads the blocking calls run on
+ * @param maxConcurrency  number of blocking calls running at the same time
+ * @param maxQueued       number of blocking calls queued per thread once all of them are busy, beyond which new
+ *                        calls are rejected
+ * @param pinnedThreshold time a virtual thread must stay pinned to its carrier before it is counted
+ */
+@ConfigurationProperties(prefix = "employee-management.blocking")
+public record EmployeeBlockingProperties(@DefaultValue("virtual-threads") Mode mode,
+                                         @DefaultValue("64") int maxConcurrency,
+                                         @DefaultValue("1000") int maxQueued,
+                                         @DefaultValue("20ms") Duration pinnedThreshold) {
+    public EmployeeBlockingProperties {
+        Assert.isTrue(maxConcurrency > 0, "Blocking max concurrency must be greater than zero.");
+        Assert.isTrue(maxQueued > 0, "Blocking max queued calls must be greater than zero.");
+        Assert.isTrue(!pinnedThreshold.isNegative(), "Pinned threshold must not be negative.");
+    }
+
+    public enum Mode {
+        /**
+         * A virtual thread per running call, so a call waiting on I/O only holds its carrier while pinned.
+         */
+        VIRTUAL_THREADS,
+        /**
+         * Platform threads of a bounded elastic pool.
+         */
+        BOUNDED_ELASTIC
+    }
+}
@@ -0,0 +1,13 @@
+package com.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the bulk create endpoint.
+ *
+ * @param batchSize number of employees sent to Mongo in a single unordered {@code bulkWrite}
+ */
+@ConfigurationProperties(prefix = "employee-management.bulk")
+public record EmployeeBulkProperties(@DefaultValue("1000") int batchSize) {
+}
@@ -0,0 +1,17 @@
+package com.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-process cache of employees read by ID.
+ *
+ * @param maximumSize      number of employees kept before the least valuable ones are evicted
+ * @param expireAfterWrite time an employee stays cached after it was loaded or written
+ */
+@ConfigurationProperties(prefix = "employee-management.cache")
+public record EmployeeCacheProperties(@DefaultValue("10000") long maximumSize,
+                                      @DefaultValue("5m") Duration expireAfterWrite) {
+}
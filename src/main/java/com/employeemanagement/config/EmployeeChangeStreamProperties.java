@@ -0,0 +1,20 @@
+package com.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the change stream that keeps the local employee data coherent across nodes. Change streams need
+ * Mongo to run as a replica set, a single-node one is enough.
+ *
+ * @param enabled                  whether this node listens to the {@code employees} change stream
+ * @param nodeId                   stable name of this node, under which its resume token is stored
+ * @param resumeTokenFlushInterval how often the last seen resume token is persisted
+ */
+@ConfigurationProperties(prefix = "employee-management.change-stream")
+public record EmployeeChangeStreamProperties(@DefaultValue("false") boolean enabled,
+                                             @DefaultValue("local") String nodeId,
+                                             @DefaultValue("1s") Duration resumeTokenFlushInterval) {
+}
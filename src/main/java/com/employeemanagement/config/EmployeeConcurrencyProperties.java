@@ -0,0 +1,22 @@
+package com.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * Settings of the cap on employee operations waiting on Mongo at the same time.
+ *
+ * @param maxInFlight maximum number of Mongo-bound operations in progress, beyond which new ones are rejected
+ * @param retryAfter  delay suggested to rejected clients before they try again
+ */
+@ConfigurationProperties(prefix = "employee-management.concurrency")
+public record EmployeeConcurrencyProperties(@DefaultValue("256") int maxInFlight,
+                                            @DefaultValue("1s") Duration retryAfter) {
+    public EmployeeConcurrencyProperties {
+        Assert.isTrue(maxInFlight > 0, "Max in-flight operations must be greater than zero.");
+        Assert.isTrue(!retryAfter.isNegative(), "Concurrency retry after must not be negative.");
+    }
+}
@@ -0,0 +1,13 @@
+package com.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the streaming export of the employee collection.
+ *
+ * @param cursorBatchSize number of documents the Mongo cursor fetches per round trip
+ */
+@ConfigurationProperties(prefix = "employee-management.export")
+public record EmployeeExportProperties(@DefaultValue("500") int cursorBatchSize) {
+}
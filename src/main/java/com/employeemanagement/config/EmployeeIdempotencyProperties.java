@@ -0,0 +1,24 @@
+package com.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@code Idempotency-Key} support of employee creation.
+ *
+ * @param enabled     whether the header is honoured, ignored otherwise
+ * @param ttl         time the first response for a key is replayed for, after which the key can be used again
+ * @param maximumSize number of responses kept in memory in front of the {@code employee_idempotency} collection
+ */
+@ConfigurationProperties(prefix = "employee-management.idempotency")
+public record EmployeeIdempotencyProperties(@DefaultValue("true") boolean enabled,
+                                            @DefaultValue("24h") Duration ttl,
+                                            @DefaultValue("10000") long maximumSize) {
+    public EmployeeIdempotencyProperties {
+        Assert.isTrue(ttl.toSeconds() > 0, "Idempotency TTL must be at least one second.");
+        Assert.isTrue(maximumSize >= 0, "Idempotency cache size must not be negative.");
+    }
+}
@@ -0,0 +1,119 @@
+package com.employeemanagement.config;
+
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.data.mongodb.core.MongoActionOperation;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings of the Mongo client and of the employee operations run through it. Every setting is checked when it is
+ * bound, so a deployment with a wrong value fails at startup instead of under load.
+ *
+ * @param pool                connection pool of each server
+ * @param socket              timeouts of the connections to each server
+ * @param compressors         wire compressors offered to the server, in order of preference, among {@code snappy},
+ *                            {@code zlib} and {@code zstd}
+ * @param readPreference      read preference of the client, used by every read without a preference of its own
+ * @param queryReadPreference read preference of the employee reads that tolerate replication lag, listing
+ *                            employees; reads by ID fill the cache and always go to the primary
+ * @param writeConcern        write concern of the client, used by every write without a concern of its own
+ * @param writeConcerns       write concerns overriding {@code writeConcern} per template operation
+ */
+@ConfigurationProperties(prefix = "employee-management.mongo")
+public record EmployeeMongoProperties(@DefaultValue Pool pool,
+                                      @DefaultValue Socket socket,
+                                      @DefaultValue List<String> compressors,
+                                      @DefaultValue("primary") ReadPreference readPreference,
+                                      @DefaultValue("primary") ReadPreference queryReadPreference,
+                                      @DefaultValue("acknowledged") String writeConcern,
+                                      @DefaultValue Map<MongoActionOperation, String> writeConcerns) {
+    private static final Map<String, String> COMPRESSOR_LIBRARIES = Map.of(
+            "snappy", "org.xerial.snappy.Snappy",
+            "zlib", "java.util.zip.Deflater",
+            "zstd", "com.github.luben.zstd.Zstd");
+
+    public EmployeeMongoProperties {
+        for (String compressor : compressors) {
+            String library = COMPRESSOR_LIBRARIES.get(compressor);
+            Assert.notNull(library, () ->
+                    STR."Unknown Mongo compressor \{compressor}, expected one of \{COMPRESSOR_LIBRARIES.keySet()}");
+            Assert.isTrue(ClassUtils.isPresent(library, null),
+                    () -> STR."Mongo compressor \{compressor} needs \{library} on the classpath");
+        }
+        toWriteConcern(writeConcern);
+        writeConcerns.values().forEach(EmployeeMongoProperties::toWriteConcern);
+    }
+
+    /**
+     * @return the write concern of the client
+     */
+    public WriteConcern defaultWriteConcern() {
+        return toWriteConcern(writeConcern);
+    }
+
+    /**
+     * @return the write concern configured for {@code operation}, or {@code null} when it uses the client one
+     */
+    public WriteConcern writeConcernFor(MongoActionOperation operation) {
+        String name = writeConcerns.get(operation);
+        return name == null ? null : toWriteConcern(name);
+    }
+
+    public List<MongoCompressor> mongoCompressors() {
+        return compressors.stream().map(compressor -> switch (compressor) {
+            case "snappy" -> MongoCompressor.createSnappyCompressor();
+            case "zstd" -> MongoCompressor.createZstdCompressor();
+            default -> MongoCompressor.createZlibCompressor();
+        }).toList();
+    }
+
+    private static WriteConcern toWriteConcern(String name) {
+        WriteConcern writeConcern = WriteConcern.valueOf(name);
+        Assert.notNull(writeConcern, () -> STR."Unknown Mongo write concern \{name}");
+        return writeConcern;
+    }
+
+    /**
+     * @param minSize               connections kept open even when idle
+     * @param maxSize               connections open at most, beyond which operations wait for one to be released
+     * @param maxWaitTime           time an operation waits for a connection before failing
+     * @param maxConnectionIdleTime time after which an idle connection is closed, zero for no limit
+     * @param maxConnecting         connections being established at the same time
+     */
+    public record Pool(@DefaultValue("0") int minSize,
+                       @DefaultValue("100") int maxSize,
+                       @DefaultValue("2m") Duration maxWaitTime,
+                       @DefaultValue("0s") Duration maxConnectionIdleTime,
+                       @DefaultValue("2") int maxConnecting) {
+        public Pool {
+            Assert.isTrue(maxSize > 0, "Mongo pool max size must be greater than zero.");
+            Assert.isTrue(minSize >= 0 && minSize <= maxSize,
+                    "Mongo pool min size must be between zero and the max size.");
+            Assert.isTrue(maxConnecting > 0, "Mongo pool max connecting must be greater than zero.");
+            Assert.isTrue(!maxWaitTime.isNegative(), "Mongo pool max wait time must not be negative.");
+            Assert.isTrue(!maxConnectionIdleTime.isNegative(), "Mongo pool max idle time must not be negative.");
+        }
+    }
+
+    /**
+     * @param connectTimeout time allowed to open a connection
+     * @param readTimeout    time allowed to wait on a read from a connection, zero for no limit
+     */
+    public record Socket(@DefaultValue("10s") Duration connectTimeout,
+                         @DefaultValue("0s") Duration readTimeout) {
+        public Socket {
+            Assert.isTrue(!connectTimeout.isNegative() && connectTimeout.toMillis() <= Integer.MAX_VALUE,
+                    "Mongo connect timeout must be between zero and Integer.MAX_VALUE milliseconds.");
+            Assert.isTrue(!readTimeout.isNegative() && readTimeout.toMillis() <= Integer.MAX_VALUE,
+                    "Mongo read timeout must be between zero and Integer.MAX_VALUE milliseconds.");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of the outbox the employee changes are published to downstream systems through. The outbox record is
+ * written in the same transaction as the change, so Mongo must run as a replica set, a single-node one is enough.
+ *
+ * @param enabled       whether changes are written to the outbox and relayed
+ * @param batchSize     number of events handed to the sink at once
+ * @param pollInterval  how often the relay looks for new events once it caught up
+ * @param leaseDuration how long the node relaying the outbox keeps it after its last batch, before another node may
+ *                      take over; it must exceed the time the sink takes to publish a batch
+ * @param sink          where events are published when no other {@code EmployeeEventSink} is defined
+ * @param file          file the {@link Sink#FILE} sink appends events to
+ */
+@ConfigurationProperties(prefix = "employee-management.outbox")
+public record EmployeeOutboxProperties(@DefaultValue("false") boolean enabled,
+                                       @DefaultValue("100") int batchSize,
+                                       @DefaultValue("500ms") Duration pollInterval,
+                                       @DefaultValue("10s") Duration leaseDuration,
+                                       @DefaultValue("file") Sink sink,
+                                       @DefaultValue("outbox/employee-events.ndjson") Path file) {
+    public EmployeeOutboxProperties {
+        Assert.isTrue(batchSize > 0, "Outbox batch size must be greater than zero.");
+        Assert.isTrue(pollInterval.isPositive(), "Outbox poll interval must be positive.");
+        Assert.isTrue(leaseDuration.compareTo(pollInterval) > 0,
+                "Outbox lease duration must be longer than the poll interval.");
+    }
+
+    public enum Sink {
+        /**
+         * Appends events to a local file, one JSON object per line.
+         */
+        FILE,
+        /**
+         * Keeps events in memory, for tests.
+         */
+        MEMORY
+    }
+}
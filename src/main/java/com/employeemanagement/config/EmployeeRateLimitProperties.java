@@ -0,0 +1,44 @@
+package com.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settings of the per-client token buckets guarding the employees API. Clients are told apart by their API key
+ * header when it is one of {@code apiKeys}, by their IP address otherwise.
+ *
+ * @param enabled         whether requests are rate limited at all
+ * @param capacity        number of requests a client can burst before being limited
+ * @param refillPerSecond sustained number of requests per second allowed to each client
+ * @param apiKeyHeader    request header identifying the client
+ * @param apiKeys         API keys known to the service, each limited on its own whatever the address it comes from
+ * @param maxClients      number of client buckets kept before the least recently used ones are dropped
+ * @param idleTimeout     time after which the bucket of a silent client is dropped
+ */
+@ConfigurationProperties(prefix = "employee-management.rate-limit")
+public record EmployeeRateLimitProperties(@DefaultValue("true") boolean enabled,
+                                          @DefaultValue("200") long capacity,
+                                          @DefaultValue("100") long refillPerSecond,
+                                          @DefaultValue("X-API-Key") String apiKeyHeader,
+                                          @DefaultValue Set<String> apiKeys,
+                                          @DefaultValue("100000") long maxClients,
+                                          @DefaultValue("10m") Duration idleTimeout) {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    public EmployeeRateLimitProperties {
+        Assert.isTrue(capacity > 0, "Rate limit capacity must be greater than zero.");
+        // beyond a token per nanosecond the refill interval of the buckets rounds down to zero
+        Assert.isTrue(refillPerSecond > 0 && refillPerSecond <= NANOS_PER_SECOND,
+                STR."Rate limit refill per second must be between 1 and \{NANOS_PER_SECOND}.");
+        Assert.isTrue(capacity <= Long.MAX_VALUE / (NANOS_PER_SECOND / refillPerSecond),
+                "Rate limit capacity is too large for the refill rate.");
+        Assert.hasText(apiKeyHeader, "Rate limit API key header must not be blank.");
+        Assert.isTrue(maxClients > 0, "Rate limit max clients must be greater than zero.");
+        Assert.isTrue(idleTimeout.isPositive(), "Rate limit idle timeout must be positive.");
+    }
+}
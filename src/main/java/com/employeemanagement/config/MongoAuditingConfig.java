@@ -0,0 +1,13 @@
+package com.employeemanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
+
+/**
+ * Stamps the last modification date of employees saved through the template and repositories. Kept out of the
+ * application class so web slice tests do not need a Mongo mapping context.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableReactiveMongoAuditing
+public class MongoAuditingConfig {
+}
@@ -0,0 +1,51 @@
+package com.employeemanagement.config;
+
+import com.mongodb.WriteConcern;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies {@link EmployeeMongoProperties} to the Mongo client Spring Boot builds, and to the template the
+ * repositories run on, so throughput can be tuned per deployment without code changes.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MongoClientConfig {
+    @Bean
+    public MongoClientSettingsBuilderCustomizer employeeMongoClientSettings(EmployeeMongoProperties properties) {
+        EmployeeMongoProperties.Pool pool = properties.pool();
+        EmployeeMongoProperties.Socket socket = properties.socket();
+        return builder -> builder
+                .applyToConnectionPoolSettings(settings -> settings
+                        .minSize(pool.minSize())
+                        .maxSize(pool.maxSize())
+                        .maxWaitTime(pool.maxWaitTime().toMillis(), TimeUnit.MILLISECONDS)
+                        .maxConnectionIdleTime(pool.maxConnectionIdleTime().toMillis(), TimeUnit.MILLISECONDS)
+                        .maxConnecting(pool.maxConnecting()))
+                .applyToSocketSettings(settings -> settings
+                        .connectTimeout((int) socket.connectTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                        .readTimeout((int) socket.readTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                .compressorList(properties.mongoCompressors())
+                .readPreference(properties.readPreference())
+                .writeConcern(properties.defaultWriteConcern());
+    }
+
+    /**
+     * Replaces the template of Spring Boot to resolve write concerns per operation.
+     */
+    @Bean
+    public ReactiveMongoTemplate reactiveMongoTemplate(ReactiveMongoDatabaseFactory databaseFactory,
+                                                       MongoConverter converter, EmployeeMongoProperties properties) {
+        ReactiveMongoTemplate template = new ReactiveMongoTemplate(databaseFactory, converter);
+        template.setWriteConcernResolver(action -> {
+            WriteConcern writeConcern = properties.writeConcernFor(action.getMongoActionOperation());
+            return writeConcern != null ? writeConcern : action.getDefaultWriteConcern();
+        });
+        return template;
+    }
+}
@@ -0,0 +1,47 @@
+package com.employeemanagement.config;
+
+import com.employeemanagement.outbox.EmployeeEventSink;
+import com.employeemanagement.outbox.EmployeeOutbox;
+import com.employeemanagement.outbox.FileEmployeeEventSink;
+import com.employeemanagement.outbox.InMemoryEmployeeEventSink;
+import com.employeemanagement.outbox.TransactionalEmployeeOutbox;
+import com.employeemanagement.repository.EmployeeOutboxRepository;
+import com.employeemanagement.scheduling.BlockingCalls;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Picks the {@link EmployeeOutbox} the service writes through and the {@link EmployeeEventSink} the relay publishes
+ * to, as set by {@link EmployeeOutboxProperties}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class OutboxConfig {
+    @Bean
+    public EmployeeOutbox employeeOutbox(EmployeeOutboxProperties properties,
+                                         EmployeeOutboxRepository outboxRepository,
+                                         ReactiveMongoDatabaseFactory databaseFactory) {
+        if (!properties.enabled())
+            return EmployeeOutbox.disabled();
+        // the transaction manager stays private to the outbox, so no other write starts joining transactions
+        TransactionalOperator transactionalOperator =
+                TransactionalOperator.create(new ReactiveMongoTransactionManager(databaseFactory));
+        return new TransactionalEmployeeOutbox(outboxRepository, transactionalOperator);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "employee-management.outbox", name = "enabled", havingValue = "true")
+    public EmployeeEventSink employeeEventSink(EmployeeOutboxProperties properties, ObjectMapper objectMapper,
+                                              BlockingCalls blockingCalls) {
+        return switch (properties.sink()) {
+            case FILE -> new FileEmployeeEventSink(properties.file(), objectMapper, blockingCalls);
+            case MEMORY -> new InMemoryEmployeeEventSink();
+        };
+    }
+}
@@ -1,16 +1,34 @@
 package com.employeemanagement.controller;
 
+import com.employeemanagement.codec.BinaryMediaTypes;
+import com.employeemanagement.model.dto.BulkItemResponseDto;
+import com.employeemanagement.model.dto.EmployeeAuditEntryDto;
 import com.employeemanagement.model.dto.EmployeeRequestDto;
 import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.model.dto.EmployeeVersionDto;
+import com.employeemanagement.model.dto.MultiGetRequestDto;
+import com.employeemanagement.model.dto.MultiGetResponseDto;
 import com.employeemanagement.service.EmployeeService;
+import com.employeemanagement.utils.CursorUtils;
+import com.employeemanagement.utils.ETagUtils;
 import com.employeemanagement.utils.EmployeeManagementUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
 @RestController
+@ConditionalOnProperty(name = "employee-management.web.mode", havingValue = "annotated", matchIfMissing = true)
 @RequestMapping(value = EmployeeManagementUtils.BASE_URL)
 public class EmployeeController {
     private final EmployeeService employeeService;
@@ -20,29 +38,123 @@ public class EmployeeController {
     }
 
     @PostMapping
-    public ResponseEntity<Mono<EmployeeResponseDto>> createEmployee(@RequestBody EmployeeRequestDto requestDto) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(employeeService.createEmployee(requestDto));
+    public ResponseEntity<Mono<EmployeeResponseDto>> createEmployee
+            (@RequestBody EmployeeRequestDto requestDto,
+             @RequestHeader(value = EmployeeManagementUtils.IDEMPOTENCY_KEY_HEADER, required = false)
+             String idempotencyKey) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(employeeService.createEmployee(requestDto, idempotencyKey));
+    }
+
+    @PostMapping(value = EmployeeManagementUtils.BULK_URI,
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+                    BinaryMediaTypes.APPLICATION_CBOR_VALUE, BinaryMediaTypes.APPLICATION_CBOR_SEQ_VALUE,
+                    BinaryMediaTypes.APPLICATION_SMILE_VALUE, BinaryMediaTypes.APPLICATION_STREAM_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE,
+                    BinaryMediaTypes.APPLICATION_CBOR_SEQ_VALUE, BinaryMediaTypes.APPLICATION_CBOR_VALUE,
+                    BinaryMediaTypes.APPLICATION_STREAM_SMILE_VALUE, BinaryMediaTypes.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<Flux<BulkItemResponseDto>> createEmployees(@RequestBody Flux<EmployeeRequestDto> requestDtos) {
+        return ResponseEntity.status(HttpStatus.OK).body(employeeService.createEmployees(requestDtos));
+    }
+
+    @PostMapping(value = EmployeeManagementUtils.MULTI_GET_URI)
+    public ResponseEntity<Mono<MultiGetResponseDto>> getEmployeesByIds(@RequestBody MultiGetRequestDto requestDto) {
+        return ResponseEntity.status(HttpStatus.OK).body(employeeService.getEmployeesByIds(requestDto.ids()));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<Mono<MultiGetResponseDto>> getEmployeesByIdParam(@RequestParam List<String> ids) {
+        return ResponseEntity.status(HttpStatus.OK).body(employeeService.getEmployeesByIds(ids));
     }
 
     @PatchMapping(value = EmployeeManagementUtils.URI_VARIABLE)
-    public ResponseEntity<Mono<EmployeeResponseDto>> updateEmployee
-            (@PathVariable String id, @RequestBody EmployeeRequestDto requestDto) {
-        return ResponseEntity.status(HttpStatus.OK).body(employeeService.updateEmployee(id, requestDto));
+    public Mono<ResponseEntity<EmployeeResponseDto>> updateEmployee
+            (@PathVariable String id, @RequestBody EmployeeRequestDto requestDto,
+             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return employeeService.updateEmployee(id, ETagUtils.toVersions(ifMatch), requestDto).map(this::withETag);
     }
 
     @GetMapping(value = EmployeeManagementUtils.URI_VARIABLE)
-    public ResponseEntity<Mono<EmployeeResponseDto>> getEmployeeById(@PathVariable String id) {
-        return ResponseEntity.status(HttpStatus.OK).body(employeeService.getEmployeeById(id));
+    public Mono<ResponseEntity<EmployeeResponseDto>> getEmployeeById(@PathVariable String id,
+                                                                     ServerWebExchange exchange) {
+        if (!ETagUtils.isConditional(exchange.getRequest().getHeaders()))
+            return employeeService.getEmployeeById(id).map(this::withETag);
+        // a matching version stamp is enough to answer, without loading or serializing the employee
+        return employeeService.getEmployeeVersion(id)
+                .filter(stamp -> ETagUtils.checkNotModified(exchange, stamp.version(), stamp.lastModified()))
+                .map(this::notModified)
+                .switchIfEmpty(Mono.defer(() -> employeeService.getEmployeeById(id).map(this::withETag)));
+    }
+
+    @GetMapping(params = "email")
+    public Mono<ResponseEntity<EmployeeResponseDto>> getEmployeeByEmail(@RequestParam String email) {
+        return employeeService.getEmployeeByEmail(email).map(this::withETag);
+    }
+
+    @GetMapping(value = EmployeeManagementUtils.SEARCH_URI)
+    public ResponseEntity<Flux<EmployeeResponseDto>> searchEmployeesByName
+            (@RequestParam String lastName, @RequestParam(required = false) String firstName,
+             @RequestParam(defaultValue = EmployeeManagementUtils.DEFAULT_PAGE_LIMIT) int limit) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(employeeService.searchEmployeesByName(lastName, firstName, limit));
+    }
+
+    @GetMapping(value = EmployeeManagementUtils.SUGGEST_URI)
+    public ResponseEntity<Flux<EmployeeResponseDto>> suggestEmployees
+            (@RequestParam String q,
+             @RequestParam(defaultValue = EmployeeManagementUtils.DEFAULT_SUGGEST_LIMIT) int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(employeeService.suggestEmployees(q, limit));
     }
 
     @GetMapping
-    public ResponseEntity<Flux<EmployeeResponseDto>> listEmployees() {
-        return ResponseEntity.status(HttpStatus.OK).body(employeeService.listEmployees());
+    public Mono<ResponseEntity<List<EmployeeResponseDto>>> listEmployees
+            (@RequestParam(required = false) String after,
+             @RequestParam(defaultValue = EmployeeManagementUtils.DEFAULT_PAGE_LIMIT) int limit) {
+        return employeeService.listEmployees(CursorUtils.decode(after), limit).collectList().map(page -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK).eTag(ETagUtils.toETag(page));
+            lastModified(page).ifPresent(response::lastModified);
+            if (page.size() == limit)
+                response.header(EmployeeManagementUtils.NEXT_CURSOR_HEADER, CursorUtils.encode(page.getLast().id()));
+            return response.body(page);
+        });
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE,
+            BinaryMediaTypes.APPLICATION_CBOR_SEQ_VALUE, BinaryMediaTypes.APPLICATION_STREAM_SMILE_VALUE})
+    public ResponseEntity<Flux<EmployeeResponseDto>> streamEmployees() {
+        return ResponseEntity.status(HttpStatus.OK).body(employeeService.streamEmployees());
+    }
+
+    @GetMapping(value = EmployeeManagementUtils.HISTORY_URI)
+    public ResponseEntity<Flux<EmployeeAuditEntryDto>> getEmployeeHistory
+            (@PathVariable String id,
+             @RequestParam(defaultValue = EmployeeManagementUtils.DEFAULT_PAGE_LIMIT) int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(employeeService.getEmployeeHistory(id, limit));
     }
 
     @DeleteMapping(value = EmployeeManagementUtils.URI_VARIABLE)
     public ResponseEntity<Mono<Void>> deleteEmployee(@PathVariable String id) {
-        employeeService.deleteEmployeeById(id).block();
-        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).body(employeeService.deleteEmployeeById(id));
+    }
+
+    private ResponseEntity<EmployeeResponseDto> withETag(EmployeeResponseDto responseDto) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (responseDto.version() != null)
+            response.eTag(ETagUtils.toETag(responseDto.version()));
+        if (responseDto.lastModified() != null)
+            response.lastModified(responseDto.lastModified());
+        return response.body(responseDto);
+    }
+
+    private ResponseEntity<EmployeeResponseDto> notModified(EmployeeVersionDto stamp) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(ETagUtils.toETag(stamp.version()));
+        if (stamp.lastModified() != null)
+            response.lastModified(stamp.lastModified());
+        return response.build();
+    }
+
+    static Optional<Instant> lastModified(List<EmployeeResponseDto> page) {
+        return page.stream().map(EmployeeResponseDto::lastModified).filter(Objects::nonNull).max(Instant::compareTo);
     }
 }
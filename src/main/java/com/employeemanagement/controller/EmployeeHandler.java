@@ -0,0 +1,222 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.codec.BinaryMediaTypes;
+import com.employeemanagement.model.dto.BulkItemResponseDto;
+import com.employeemanagement.model.dto.EmployeeAuditEntryDto;
+import com.employeemanagement.model.dto.EmployeeRequestDto;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.model.dto.EmployeeVersionDto;
+import com.employeemanagement.model.dto.MultiGetRequestDto;
+import com.employeemanagement.model.dto.MultiGetResponseDto;
+import com.employeemanagement.service.EmployeeService;
+import com.employeemanagement.utils.CursorUtils;
+import com.employeemanagement.utils.ETagUtils;
+import com.employeemanagement.utils.EmployeeManagementUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handler functions behind {@link EmployeeRouter}, answering exactly like {@link EmployeeController} does without
+ * going through handler method resolution and argument resolvers.
+ */
+@Component
+@ConditionalOnProperty(name = "employee-management.web.mode", havingValue = "functional")
+public class EmployeeHandler {
+    private static final List<MediaType> PRODUCES = List.of(MediaType.APPLICATION_JSON,
+            BinaryMediaTypes.APPLICATION_CBOR, BinaryMediaTypes.APPLICATION_SMILE);
+    private static final List<MediaType> BULK_CONSUMES = List.of(MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_NDJSON, BinaryMediaTypes.APPLICATION_CBOR, BinaryMediaTypes.APPLICATION_CBOR_SEQ,
+            BinaryMediaTypes.APPLICATION_SMILE, BinaryMediaTypes.APPLICATION_STREAM_SMILE);
+    private static final List<MediaType> BULK_PRODUCES = List.of(MediaType.APPLICATION_NDJSON,
+            MediaType.APPLICATION_JSON, BinaryMediaTypes.APPLICATION_CBOR_SEQ, BinaryMediaTypes.APPLICATION_CBOR,
+            BinaryMediaTypes.APPLICATION_STREAM_SMILE, BinaryMediaTypes.APPLICATION_SMILE);
+    private static final List<MediaType> STREAM_PRODUCES = List.of(MediaType.APPLICATION_NDJSON,
+            MediaType.TEXT_EVENT_STREAM, BinaryMediaTypes.APPLICATION_CBOR_SEQ,
+            BinaryMediaTypes.APPLICATION_STREAM_SMILE);
+
+    private final EmployeeService employeeService;
+
+    public EmployeeHandler(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    public Mono<ServerResponse> createEmployee(ServerRequest request) {
+        String idempotencyKey = request.headers().firstHeader(EmployeeManagementUtils.IDEMPOTENCY_KEY_HEADER);
+        return requiredBody(request)
+                .flatMap(requestDto -> employeeService.createEmployee(requestDto, idempotencyKey))
+                .flatMap(responseDto -> ServerResponse.status(HttpStatus.CREATED)
+                        .contentType(negotiate(request, PRODUCES))
+                        .bodyValue(responseDto));
+    }
+
+    public Mono<ServerResponse> createEmployees(ServerRequest request) {
+        MediaType contentType = request.headers().contentType().orElse(MediaType.APPLICATION_OCTET_STREAM);
+        if (BULK_CONSUMES.stream().noneMatch(type -> type.includes(contentType)))
+            return Mono.error(new UnsupportedMediaTypeStatusException(contentType, BULK_CONSUMES));
+        return ServerResponse.ok()
+                .contentType(negotiate(request, BULK_PRODUCES))
+                .body(employeeService.createEmployees(request.bodyToFlux(EmployeeRequestDto.class)),
+                        BulkItemResponseDto.class);
+    }
+
+    public Mono<ServerResponse> getEmployeesByIds(ServerRequest request) {
+        return request.bodyToMono(MultiGetRequestDto.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("No request body")))
+                .flatMap(requestDto -> multiGet(request, requestDto.ids()));
+    }
+
+    public Mono<ServerResponse> getEmployeesByIdParam(ServerRequest request) {
+        // comma separated values are split like the annotated endpoint converts them to a list
+        List<String> ids = new ArrayList<>();
+        for (String value : request.queryParams().getOrDefault("ids", List.of()))
+            for (String id : StringUtils.commaDelimitedListToStringArray(value))
+                ids.add(id.trim());
+        return multiGet(request, ids);
+    }
+
+    public Mono<ServerResponse> updateEmployee(ServerRequest request) {
+        String id = request.pathVariable("id");
+        List<Long> expectedVersions = ETagUtils.toVersions(
+                String.join(",", request.headers().header(HttpHeaders.IF_MATCH)));
+        return requiredBody(request)
+                .flatMap(requestDto -> employeeService.updateEmployee(id, expectedVersions, requestDto))
+                .flatMap(responseDto -> withETag(request, responseDto));
+    }
+
+    public Mono<ServerResponse> getEmployeeById(ServerRequest request) {
+        String id = request.pathVariable("id");
+        if (!ETagUtils.isConditional(request.headers().asHttpHeaders()))
+            return employeeService.getEmployeeById(id).flatMap(responseDto -> withETag(request, responseDto));
+        // a matching version stamp is enough to answer, without loading or serializing the employee
+        return employeeService.getEmployeeVersion(id)
+                .filter(stamp -> ETagUtils.checkNotModified(request.exchange(), stamp.version(), stamp.lastModified()))
+                .flatMap(this::notModified)
+                .switchIfEmpty(Mono.defer(() -> employeeService.getEmployeeById(id)
+                        .flatMap(responseDto -> withETag(request, responseDto))));
+    }
+
+    public Mono<ServerResponse> getEmployeeByEmail(ServerRequest request) {
+        return employeeService.getEmployeeByEmail(requiredParam(request, "email"))
+                .flatMap(responseDto -> withETag(request, responseDto));
+    }
+
+    public Mono<ServerResponse> searchEmployeesByName(ServerRequest request) {
+        String lastName = requiredParam(request, "lastName");
+        String firstName = request.queryParam("firstName").orElse(null);
+        int limit = intParam(request, "limit", EmployeeManagementUtils.DEFAULT_PAGE_LIMIT);
+        return ServerResponse.ok()
+                .contentType(negotiate(request, PRODUCES))
+                .body(employeeService.searchEmployeesByName(lastName, firstName, limit), EmployeeResponseDto.class);
+    }
+
+    public Mono<ServerResponse> suggestEmployees(ServerRequest request) {
+        String query = requiredParam(request, "q");
+        int limit = intParam(request, "limit", EmployeeManagementUtils.DEFAULT_SUGGEST_LIMIT);
+        return ServerResponse.ok()
+                .contentType(negotiate(request, PRODUCES))
+                .body(employeeService.suggestEmployees(query, limit), EmployeeResponseDto.class);
+    }
+
+    public Mono<ServerResponse> listEmployees(ServerRequest request) {
+        String afterId = CursorUtils.decode(request.queryParam("after").orElse(null));
+        int limit = intParam(request, "limit", EmployeeManagementUtils.DEFAULT_PAGE_LIMIT);
+        return employeeService.listEmployees(afterId, limit).collectList().flatMap(page -> {
+            ServerResponse.BodyBuilder response = ServerResponse.ok()
+                    .contentType(negotiate(request, PRODUCES))
+                    .eTag(ETagUtils.toETag(page));
+            EmployeeController.lastModified(page).ifPresent(response::lastModified);
+            if (page.size() == limit)
+                response.header(EmployeeManagementUtils.NEXT_CURSOR_HEADER, CursorUtils.encode(page.getLast().id()));
+            return response.bodyValue(page);
+        });
+    }
+
+    public Mono<ServerResponse> streamEmployees(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(negotiate(request, STREAM_PRODUCES))
+                .body(employeeService.streamEmployees(), EmployeeResponseDto.class);
+    }
+
+    public Mono<ServerResponse> getEmployeeHistory(ServerRequest request) {
+        String id = request.pathVariable("id");
+        int limit = intParam(request, "limit", EmployeeManagementUtils.DEFAULT_PAGE_LIMIT);
+        return ServerResponse.ok()
+                .contentType(negotiate(request, PRODUCES))
+                .body(employeeService.getEmployeeHistory(id, limit), EmployeeAuditEntryDto.class);
+    }
+
+    public Mono<ServerResponse> deleteEmployee(ServerRequest request) {
+        return employeeService.deleteEmployeeById(request.pathVariable("id"))
+                .then(ServerResponse.noContent().build());
+    }
+
+    /**
+     * @return whether the request explicitly accepts one of the streaming media types, as a wildcard does not pick
+     * the stream over the paged list in {@link EmployeeController} either
+     */
+    static boolean acceptsStream(ServerRequest request) {
+        return request.headers().accept().stream().anyMatch(accepted -> STREAM_PRODUCES.stream()
+                .anyMatch(accepted::equalsTypeAndSubtype));
+    }
+
+    private Mono<ServerResponse> multiGet(ServerRequest request, List<String> ids) {
+        return ServerResponse.ok()
+                .contentType(negotiate(request, PRODUCES))
+                .body(employeeService.getEmployeesByIds(ids), MultiGetResponseDto.class);
+    }
+
+    private Mono<ServerResponse> withETag(ServerRequest request, EmployeeResponseDto responseDto) {
+        ServerResponse.BodyBuilder response = ServerResponse.ok().contentType(negotiate(request, PRODUCES));
+        if (responseDto.version() != null)
+            response.eTag(ETagUtils.toETag(responseDto.version()));
+        if (responseDto.lastModified() != null)
+            response.lastModified(responseDto.lastModified());
+        return response.bodyValue(responseDto);
+    }
+
+    private Mono<ServerResponse> notModified(EmployeeVersionDto stamp) {
+        ServerResponse.BodyBuilder response = ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                .eTag(ETagUtils.toETag(stamp.version()));
+        if (stamp.lastModified() != null)
+            response.lastModified(stamp.lastModified());
+        return response.build();
+    }
+
+    private static Mono<EmployeeRequestDto> requiredBody(ServerRequest request) {
+        return request.bodyToMono(EmployeeRequestDto.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("No request body")));
+    }
+
+    private static String requiredParam(ServerRequest request, String name) {
+        return request.queryParam(name).orElseThrow(() ->
+                new ServerWebInputException(STR."Required query parameter '\{name}' is not present."));
+    }
+
+    private static int intParam(ServerRequest request, String name, String defaultValue) {
+        try {
+            return Integer.parseInt(request.queryParam(name).orElse(defaultValue));
+        } catch (NumberFormatException ex) {
+            throw new ServerWebInputException("Type mismatch.");
+        }
+    }
+
+    private static MediaType negotiate(ServerRequest request, List<MediaType> producible) {
+        for (MediaType accepted : request.headers().accept())
+            for (MediaType type : producible)
+                if (accepted.isCompatibleWith(type))
+                    return type;
+        return producible.getFirst();
+    }
+}
@@ -0,0 +1,49 @@
+package com.employeemanagement.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import static com.employeemanagement.utils.EmployeeManagementUtils.BASE_URL;
+import static com.employeemanagement.utils.EmployeeManagementUtils.BULK_URI;
+import static com.employeemanagement.utils.EmployeeManagementUtils.HISTORY_URI;
+import static com.employeemanagement.utils.EmployeeManagementUtils.MULTI_GET_URI;
+import static com.employeemanagement.utils.EmployeeManagementUtils.SEARCH_URI;
+import static com.employeemanagement.utils.EmployeeManagementUtils.SUGGEST_URI;
+import static com.employeemanagement.utils.EmployeeManagementUtils.URI_VARIABLE;
+
+/**
+ * Functional routes for the {@code /api/v1/employees} API, used instead of {@link EmployeeController} when
+ * {@code employee-management.web.mode=functional}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "employee-management.web.mode", havingValue = "functional")
+public class EmployeeRouter {
+    @Bean
+    public RouterFunction<ServerResponse> employeeRoutes(EmployeeHandler handler) {
+        // literal segments come before the id variable they would otherwise be taken for
+        return RouterFunctions.route()
+                .POST(BASE_URL + BULK_URI, handler::createEmployees)
+                .POST(BASE_URL + MULTI_GET_URI, handler::getEmployeesByIds)
+                .POST(BASE_URL, handler::createEmployee)
+                .GET(BASE_URL + SEARCH_URI, handler::searchEmployeesByName)
+                .GET(BASE_URL + SUGGEST_URI, handler::suggestEmployees)
+                .GET(BASE_URL + HISTORY_URI, handler::getEmployeeHistory)
+                .GET(BASE_URL + URI_VARIABLE, handler::getEmployeeById)
+                .PATCH(BASE_URL + URI_VARIABLE, handler::updateEmployee)
+                .DELETE(BASE_URL + URI_VARIABLE, handler::deleteEmployee)
+                .GET(BASE_URL, RequestPredicates.queryParam("ids", ids -> true), handler::getEmployeesByIdParam)
+                .GET(BASE_URL, RequestPredicates.queryParam("email", email -> true), handler::getEmployeeByEmail)
+                .GET(BASE_URL, EmployeeHandler::acceptsStream, handler::streamEmployees)
+                .GET(BASE_URL, handler::listEmployees)
+                .filter((request, next) -> Mono.defer(() -> next.handle(request))
+                        .map(ErrorResponses::withBodyErrors)
+                        .onErrorResume(ErrorResponses::toServerResponse))
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.exception.EmployeeManagementException;
+import com.employeemanagement.exception.ServiceOverloadedException;
+import com.employeemanagement.model.HttpErrorCode;
+import com.employeemanagement.model.dto.ApiErrorResponse;
+import com.employeemanagement.utils.CachedClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Turns the errors of a request into the status and {@link ApiErrorResponse} body sent back, for annotated and
+ * functional endpoints alike.
+ */
+public final class ErrorResponses {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ErrorResponses.class);
+    private static final String UNEXPECTED_ERROR_MESSAGE = "Unexpected error while processing the request.";
+
+    private ErrorResponses() {
+    }
+
+    public static ResponseEntity<ApiErrorResponse> toResponseEntity(Throwable ex) {
+        return ResponseEntity.status(status(ex)).headers(headers(ex)).body(body(ex));
+    }
+
+    public static Mono<ServerResponse> toServerResponse(Throwable ex) {
+        return ServerResponse.status(status(ex)).headers(headers -> headers.addAll(headers(ex))).bodyValue(body(ex));
+    }
+
+    /**
+     * @return {@code response}, with the errors raised while its body is written, such as those of a request body
+     * decoded as it streams in, answered like errors of the handler until the response is committed
+     */
+    public static ServerResponse withBodyErrors(ServerResponse response) {
+        return new ServerResponse() {
+            @Override
+            public HttpStatusCode statusCode() {
+                return response.statusCode();
+            }
+
+            @Override
+            @Deprecated
+            public int rawStatusCode() {
+                return response.statusCode().value();
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return response.headers();
+            }
+
+            @Override
+            public MultiValueMap<String, ResponseCookie> cookies() {
+                return response.cookies();
+            }
+
+            @Override
+            public Mono<Void> writeTo(ServerWebExchange exchange, Context context) {
+                return response.writeTo(exchange, context).onErrorResume(ex -> {
+                    if (exchange.getResponse().isCommitted())
+                        return Mono.error(ex);
+                    // the error body is negotiated again rather than written in the type of the failed one
+                    exchange.getResponse().getHeaders().remove(HttpHeaders.CONTENT_TYPE);
+                    return toServerResponse(ex).flatMap(errorResponse -> errorResponse.writeTo(exchange, context));
+                });
+            }
+        };
+    }
+
+    private static HttpStatusCode status(Throwable ex) {
+        if (ex instanceof EmployeeManagementException employeeManagementException)
+            return employeeManagementException.getStatus();
+        if (ex instanceof IllegalArgumentException)
+            return HttpStatus.BAD_REQUEST;
+        if (ex instanceof ResponseStatusException responseStatusException)
+            return responseStatusException.getStatusCode();
+        // an item of a streamed request body over the codecs' in-memory limit
+        if (ex instanceof DataBufferLimitException)
+            return HttpStatus.PAYLOAD_TOO_LARGE;
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    private static HttpHeaders headers(Throwable ex) {
+        HttpHeaders headers = new HttpHeaders();
+        if (ex instanceof ServiceOverloadedException serviceOverloadedException)
+            headers.set(HttpHeaders.RETRY_AFTER,
+                    Long.toString(Math.max(1, serviceOverloadedException.getRetryAfter().toSeconds())));
+        return headers;
+    }
+
+    private static ApiErrorResponse body(Throwable ex) {
+        return ApiErrorResponse.builder()
+                .timestamp(CachedClock.now())
+                .message(message(ex))
+                .errorCode(errorCode(ex))
+                .build();
+    }
+
+    private static String message(Throwable ex) {
+        if (ex instanceof ResponseStatusException responseStatusException)
+            return responseStatusException.getReason();
+        if (ex instanceof EmployeeManagementException || ex instanceof IllegalArgumentException
+                || ex instanceof DataBufferLimitException)
+            return ex.getMessage();
+        // anything else is a bug or an outage, whose details are for the logs rather than for clients
+        LOGGER.error("Request failed unexpectedly", ex);
+        return UNEXPECTED_ERROR_MESSAGE;
+    }
+
+    private static HttpErrorCode errorCode(Throwable ex) {
+        if (ex instanceof EmployeeManagementException employeeManagementException)
+            return employeeManagementException.getErrorCode();
+        if (ex instanceof IllegalArgumentException)
+            return HttpErrorCode.MISSING_REQUIRED_ARGUMENT;
+        if (ex instanceof ResponseStatusException responseStatusException) {
+            HttpStatusCode status = responseStatusException.getStatusCode();
+            if (status.value() == HttpStatus.NOT_FOUND.value())
+                return HttpErrorCode.RESOURCE_NOT_FOUND;
+            if (status.is4xxClientError())
+                return HttpErrorCode.INVALID_REQUEST;
+        }
+        if (ex instanceof DataBufferLimitException)
+            return HttpErrorCode.INVALID_REQUEST;
+        return HttpErrorCode.INTERNAL_SERVER_ERROR;
+    }
+}
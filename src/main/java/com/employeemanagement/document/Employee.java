@@ -1,21 +1,36 @@
 package com.employeemanagement.document;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
+
 @Document(collection = "employees")
+@CompoundIndex(name = "lastName_firstName", def = "{ 'lastName': 1, 'firstName': 1 }")
 public class Employee {
     @Id
     private String id;
     private String firstName;
     private String lastName;
+    // sparse, so employees without an email do not collide on it
+    @Indexed(unique = true, sparse = true)
     private String email;
+    @Version
+    private Long version;
+    @LastModifiedDate
+    private Instant lastModified;
 
-    public Employee(String id, String firstName, String lastName, String email) {
+    public Employee(String id, String firstName, String lastName, String email, Long version, Instant lastModified) {
         this.id = id;
         this.firstName = firstName;
         this.lastName = lastName;
         this.email = email;
+        this.version = version;
+        this.lastModified = lastModified;
     }
 
     public String getId() {
@@ -34,6 +49,14 @@ public class Employee {
         return email;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
     public void setFirstName(String firstName) {
         if (firstName != null && !firstName.trim().isBlank())
             this.firstName = firstName;
@@ -58,6 +81,8 @@ public class Employee {
         private String firstName;
         private String lastName;
         private String email;
+        private Long version;
+        private Instant lastModified;
 
         public EmployeeBuilder id(String id) {
             this.id = id;
@@ -79,8 +104,18 @@ public class Employee {
             return this;
         }
 
+        public EmployeeBuilder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
+        public EmployeeBuilder lastModified(Instant lastModified) {
+            this.lastModified = lastModified;
+            return this;
+        }
+
         public Employee build() {
-            return new Employee(id, firstName, lastName, email);
+            return new Employee(id, firstName, lastName, email, version, lastModified);
         }
     }
 }
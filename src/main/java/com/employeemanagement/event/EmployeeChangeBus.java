@@ -0,0 +1,27 @@
+package com.employeemanagement.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+
+/**
+ * In-memory bus that fans {@link EmployeeChangeEvent}s out to the local components holding employee data.
+ */
+@Component
+public class EmployeeChangeBus {
+    private static final Duration EMIT_RETRY = Duration.ofMillis(100);
+
+    private final Sinks.Many<EmployeeChangeEvent> sink = Sinks.many().multicast().directBestEffort();
+
+    public void publish(EmployeeChangeEvent event) {
+        Assert.notNull(event, "Employee change event must not be null.");
+        sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY));
+    }
+
+    public Flux<EmployeeChangeEvent> events() {
+        return sink.asFlux();
+    }
+}
@@ -0,0 +1,30 @@
+package com.employeemanagement.event;
+
+/**
+ * A change made to the {@code employees} collection, by this node or by any other.
+ *
+ * @param type       what happened to the employee
+ * @param employeeId ID of the changed employee, {@literal null} for {@link Type#RESET}
+ * @param version    version the employee reached with the change, {@literal null} when unknown or deleted
+ */
+public record EmployeeChangeEvent(Type type, String employeeId, Long version) {
+    public enum Type {
+        CHANGED, DELETED,
+        /**
+         * Changes may have been missed, so anything derived from the collection must be rebuilt.
+         */
+        RESET
+    }
+
+    public static EmployeeChangeEvent changed(String employeeId, Long version) {
+        return new EmployeeChangeEvent(Type.CHANGED, employeeId, version);
+    }
+
+    public static EmployeeChangeEvent deleted(String employeeId) {
+        return new EmployeeChangeEvent(Type.DELETED, employeeId, null);
+    }
+
+    public static EmployeeChangeEvent reset() {
+        return new EmployeeChangeEvent(Type.RESET, null, null);
+    }
+}
@@ -0,0 +1,149 @@
+package com.employeemanagement.event;
+
+import com.employeemanagement.config.EmployeeChangeStreamProperties;
+import com.mongodb.MongoException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import jakarta.annotation.PreDestroy;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Tails the change stream of the {@code employees} collection and republishes every change on the
+ * {@link EmployeeChangeBus}. The resume token is persisted per node, so a reconnecting or restarted node picks up
+ * where it stopped; only when Mongo no longer holds that point in its oplog is a {@link EmployeeChangeEvent#reset()}
+ * published.
+ */
+@Component
+@ConditionalOnProperty(prefix = "employee-management.change-stream", name = "enabled", havingValue = "true")
+public class EmployeeChangeStreamListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeChangeStreamListener.class);
+    private static final String EMPLOYEES_COLLECTION = "employees";
+    private static final String RESUME_TOKENS_COLLECTION = "change_stream_resume_tokens";
+    // ChangeStreamFatalError, InvalidResumeToken and ChangeStreamHistoryLost: resuming is not possible anymore
+    private static final Set<Integer> LOST_RESUME_POINT_CODES = Set.of(280, 260, 286);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final EmployeeChangeBus changeBus;
+    private final EmployeeChangeStreamProperties properties;
+    private final AtomicReference<BsonValue> lastResumeToken = new AtomicReference<>();
+    private Disposable subscription;
+
+    public EmployeeChangeStreamListener(ReactiveMongoTemplate mongoTemplate, EmployeeChangeBus changeBus,
+                                        EmployeeChangeStreamProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.changeBus = changeBus;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Flux<BsonValue> resumeTokens = Flux.defer(this::watch)
+                .doOnNext(this::publish)
+                .map(ChangeStreamEvent::getResumeToken)
+                .doOnNext(lastResumeToken::set)
+                .onErrorResume(this::isResumePointLost, ex -> forgetResumePoint())
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30))
+                        .transientErrors(true)
+                        .doBeforeRetry(signal -> LOGGER.warn("Employee change stream failed, resuming",
+                                signal.failure())));
+        subscription = resumeTokens.sample(properties.resumeTokenFlushInterval())
+                .concatMap(this::saveResumeToken)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null)
+            subscription.dispose();
+    }
+
+    private Flux<ChangeStreamEvent<Document>> watch() {
+        Mono<BsonValue> resumeToken = Mono.justOrEmpty(lastResumeToken.get()).switchIfEmpty(loadResumeToken());
+        return resumeToken
+                .map(token -> ChangeStreamOptions.builder().resumeAfter(token).build())
+                .defaultIfEmpty(ChangeStreamOptions.empty())
+                .flatMapMany(options -> mongoTemplate.changeStream(EMPLOYEES_COLLECTION, options, Document.class));
+    }
+
+    private void publish(ChangeStreamEvent<Document> event) {
+        ChangeStreamDocument<Document> raw = event.getRaw();
+        if (raw == null || event.getOperationType() == null)
+            return;
+        switch (event.getOperationType()) {
+            case INSERT, REPLACE -> changeBus.publish(EmployeeChangeEvent.changed(employeeId(raw),
+                    raw.getFullDocument() == null ? null : toVersion(raw.getFullDocument().get("version"))));
+            case UPDATE -> changeBus.publish(EmployeeChangeEvent.changed(employeeId(raw),
+                    raw.getUpdateDescription() == null || raw.getUpdateDescription().getUpdatedFields() == null ? null
+                            : toVersion(raw.getUpdateDescription().getUpdatedFields().get("version"))));
+            case DELETE -> changeBus.publish(EmployeeChangeEvent.deleted(employeeId(raw)));
+            case DROP, RENAME, DROP_DATABASE, INVALIDATE -> changeBus.publish(EmployeeChangeEvent.reset());
+            default -> LOGGER.debug("Ignoring employee change of type {}", event.getOperationType());
+        }
+    }
+
+    private static String employeeId(ChangeStreamDocument<Document> raw) {
+        BsonValue id = raw.getDocumentKey() == null ? null : raw.getDocumentKey().get("_id");
+        if (id == null)
+            return null;
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+    private static Long toVersion(Object version) {
+        if (version instanceof BsonValue bsonVersion)
+            return bsonVersion.isNumber() ? bsonVersion.asNumber().longValue() : null;
+        return version instanceof Number number ? number.longValue() : null;
+    }
+
+    private boolean isResumePointLost(Throwable ex) {
+        return NestedExceptionUtils.getMostSpecificCause(ex) instanceof MongoException mongoException
+                && LOST_RESUME_POINT_CODES.contains(mongoException.getCode());
+    }
+
+    private Flux<BsonValue> forgetResumePoint() {
+        LOGGER.warn("Employee change stream cannot resume from its last position, resetting local employee data");
+        lastResumeToken.set(null);
+        changeBus.publish(EmployeeChangeEvent.reset());
+        // erroring again hands over to the retry, which starts a fresh stream now that no token is left
+        return mongoTemplate.remove(query(where("_id").is(properties.nodeId())), RESUME_TOKENS_COLLECTION)
+                .thenMany(Flux.error(new IllegalStateException("Employee change stream resume point lost")));
+    }
+
+    private Mono<BsonValue> loadResumeToken() {
+        return mongoTemplate.findById(properties.nodeId(), Document.class, RESUME_TOKENS_COLLECTION)
+                .mapNotNull(document -> document.getString("token"))
+                .map(BsonDocument::parse);
+    }
+
+    private Mono<Void> saveResumeToken(BsonValue resumeToken) {
+        Update update = Update.update("token", resumeToken.asDocument().toJson()).currentDate("updatedAt");
+        return mongoTemplate.upsert(query(where("_id").is(properties.nodeId())), update, RESUME_TOKENS_COLLECTION)
+                .then()
+                .onErrorResume(ex -> {
+                    LOGGER.warn("Could not persist the employee change stream resume token", ex);
+                    return Mono.empty();
+                });
+    }
+}
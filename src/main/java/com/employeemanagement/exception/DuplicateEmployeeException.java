@@ -0,0 +1,11 @@
+package com.employeemanagement.exception;
+
+import com.employeemanagement.model.HttpErrorCode;
+import org.springframework.http.HttpStatus;
+
+public class DuplicateEmployeeException extends EmployeeManagementException {
+    public DuplicateEmployeeException(String email) {
+        super(STR."Employee already exists for email \{email}", HttpStatus.CONFLICT,
+                HttpErrorCode.RESOURCE_ALREADY_EXISTS);
+    }
+}
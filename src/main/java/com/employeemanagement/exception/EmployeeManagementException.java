@@ -0,0 +1,28 @@
+package com.employeemanagement.exception;
+
+import com.employeemanagement.model.HttpErrorCode;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Base of the errors the API reports to clients, each carrying the status and error code of its response. These are
+ * expected outcomes rather than bugs, so they skip capturing a stack trace and suppressed exceptions, which also
+ * makes instances without request-specific state safe to share.
+ */
+public abstract class EmployeeManagementException extends RuntimeException {
+    private final HttpStatus status;
+    private final HttpErrorCode errorCode;
+
+    protected EmployeeManagementException(String message, HttpStatus status, HttpErrorCode errorCode) {
+        super(message, null, false, false);
+        this.status = status;
+        this.errorCode = errorCode;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public HttpErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,19 @@
+package com.employeemanagement.exception;
+
+import com.employeemanagement.model.HttpErrorCode;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Reads of missing employees are a large share of the traffic, so their errors are shared instances rather than one
+ * per request. The ID or email looked up is in the request already, and is left out of the message.
+ */
+public class EmployeeNotFoundException extends EmployeeManagementException {
+    public static final EmployeeNotFoundException BY_ID =
+            new EmployeeNotFoundException("Employee not found for the requested ID");
+    public static final EmployeeNotFoundException BY_EMAIL =
+            new EmployeeNotFoundException("Employee not found for the requested email");
+
+    private EmployeeNotFoundException(String message) {
+        super(message, HttpStatus.NOT_FOUND, HttpErrorCode.RESOURCE_NOT_FOUND);
+    }
+}
@@ -0,0 +1,20 @@
+package com.employeemanagement.exception;
+
+import com.employeemanagement.model.HttpErrorCode;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+public class EmployeeVersionConflictException extends EmployeeManagementException {
+    public EmployeeVersionConflictException(String id, List<Long> expectedVersions) {
+        super(message(id, expectedVersions), HttpStatus.PRECONDITION_FAILED, HttpErrorCode.PRECONDITION_FAILED);
+    }
+
+    private static String message(String id, List<Long> expectedVersions) {
+        return switch (expectedVersions.size()) {
+            case 0 -> STR."Employee with ID \{id} does not match any entity tag of If-Match";
+            case 1 -> STR."Employee with ID \{id} is no longer at version \{expectedVersions.getFirst()}";
+            default -> STR."Employee with ID \{id} is at none of the versions \{expectedVersions}";
+        };
+    }
+}
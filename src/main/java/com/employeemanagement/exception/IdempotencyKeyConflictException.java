@@ -0,0 +1,28 @@
+package com.employeemanagement.exception;
+
+import com.employeemanagement.model.HttpErrorCode;
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyKeyConflictException extends EmployeeManagementException {
+    private IdempotencyKeyConflictException(String message, HttpStatus status) {
+        super(message, status, HttpErrorCode.IDEMPOTENCY_KEY_CONFLICT);
+    }
+
+    /**
+     * @return the error for a key whose first request is still being processed, possibly by another node
+     */
+    public static IdempotencyKeyConflictException inProgress(String key) {
+        return new IdempotencyKeyConflictException(
+                STR."A request with idempotency key \{key} is still in progress, try again later.",
+                HttpStatus.CONFLICT);
+    }
+
+    /**
+     * @return the error for a key already used by a request with another body
+     */
+    public static IdempotencyKeyConflictException reused(String key) {
+        return new IdempotencyKeyConflictException(
+                STR."Idempotency key \{key} was already used for a different request.",
+                HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+}
@@ -0,0 +1,25 @@
+package com.employeemanagement.exception;
+
+import com.employeemanagement.model.HttpErrorCode;
+import org.springframework.http.HttpStatus;
+
+import static com.employeemanagement.utils.EmployeeManagementUtils.IDEMPOTENCY_KEY_HEADER;
+import static com.employeemanagement.utils.EmployeeManagementUtils.MAX_IDEMPOTENCY_KEY_LENGTH;
+import static com.employeemanagement.utils.EmployeeManagementUtils.MAX_MULTI_GET_IDS;
+import static com.employeemanagement.utils.EmployeeManagementUtils.MAX_PAGE_LIMIT;
+import static com.employeemanagement.utils.EmployeeManagementUtils.MAX_SUGGEST_LIMIT;
+
+public class InvalidRequestException extends EmployeeManagementException {
+    public static final InvalidRequestException INVALID_PAGE_LIMIT =
+            new InvalidRequestException(STR."Page limit must be between 1 and \{MAX_PAGE_LIMIT}.");
+    public static final InvalidRequestException INVALID_SUGGEST_LIMIT =
+            new InvalidRequestException(STR."Suggest limit must be between 1 and \{MAX_SUGGEST_LIMIT}.");
+    public static final InvalidRequestException INVALID_MULTI_GET_IDS =
+            new InvalidRequestException(STR."Between 1 and \{MAX_MULTI_GET_IDS} employee IDs must be requested.");
+    public static final InvalidRequestException INVALID_IDEMPOTENCY_KEY = new InvalidRequestException(
+            STR."\{IDEMPOTENCY_KEY_HEADER} must be between 1 and \{MAX_IDEMPOTENCY_KEY_LENGTH} characters.");
+
+    public InvalidRequestException(String message) {
+        super(message, HttpStatus.BAD_REQUEST, HttpErrorCode.INVALID_REQUEST);
+    }
+}
@@ -0,0 +1,20 @@
+package com.employeemanagement.exception;
+
+import com.employeemanagement.model.HttpErrorCode;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+public class ServiceOverloadedException extends EmployeeManagementException {
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(Duration retryAfter) {
+        super("Too many requests in progress, try again later.", HttpStatus.SERVICE_UNAVAILABLE,
+                HttpErrorCode.SERVICE_OVERLOADED);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,106 @@
+package com.employeemanagement.idempotency;
+
+import com.employeemanagement.config.EmployeeIdempotencyProperties;
+import com.employeemanagement.exception.IdempotencyKeyConflictException;
+import com.employeemanagement.model.dto.EmployeeIdempotencyRecordDto;
+import com.employeemanagement.model.dto.EmployeeRequestDto;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.repository.EmployeeIdempotencyRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Makes requests carrying an idempotency key run once. The key is reserved in the {@code employee_idempotency}
+ * collection before the request runs and its response stored there afterwards, for
+ * {@code employee-management.idempotency.ttl}; a bounded in-memory cache in front of it answers replays seen by this
+ * node without going to Mongo, and makes concurrent requests with the same key wait on the first one. Hits, misses
+ * and evictions are published as the {@code cache.*} meters tagged {@code cache=employee-idempotency}.
+ * <p>
+ * A key whose request failed is freed so it can be retried, while a key reserved by a node that stopped before
+ * completing it stays in progress until it expires.
+ */
+@Component
+public class EmployeeIdempotencyStore {
+    public static final String CACHE_NAME = "employee-idempotency";
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeIdempotencyStore.class);
+
+    private final EmployeeIdempotencyRepository idempotencyRepository;
+    private final EmployeeIdempotencyProperties properties;
+    private final AsyncCache<String, EmployeeIdempotencyRecordDto> cache;
+
+    public EmployeeIdempotencyStore(EmployeeIdempotencyRepository idempotencyRepository,
+                                    EmployeeIdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (properties.enabled())
+            idempotencyRepository.createIndexes(properties.ttl())
+                    .doOnError(ex -> LOGGER.warn("Could not create the employee idempotency indexes", ex))
+                    .onErrorComplete()
+                    .subscribe();
+    }
+
+    /**
+     * Runs {@code request} unless a request was already made with the key, in which case its response is returned.
+     *
+     * @throws IdempotencyKeyConflictException when the key was used for another request, or its request is still in
+     *                                         progress on another node
+     */
+    public Mono<EmployeeResponseDto> execute(String key, EmployeeRequestDto requestDto,
+                                             Supplier<Mono<EmployeeResponseDto>> request) {
+        Assert.notNull(key, "Idempotency key must not be null.");
+        // a subscriber cancelling must not cancel the request other subscribers are waiting on
+        return Mono.fromFuture(() -> cache.get(key, (k, executor) -> firstResponse(k, requestDto, request)
+                        .toFuture()), true)
+                .flatMap(stored -> stored.request().equals(requestDto)
+                        ? Mono.just(stored.response())
+                        : Mono.error(IdempotencyKeyConflictException.reused(key)));
+    }
+
+    private Mono<EmployeeIdempotencyRecordDto> firstResponse(String key, EmployeeRequestDto requestDto,
+                                                             Supplier<Mono<EmployeeResponseDto>> request) {
+        return idempotencyRepository.reserve(key, requestDto).flatMap(reserved -> reserved
+                ? Mono.defer(request)
+                        .onErrorResume(ex -> idempotencyRepository.release(key)
+                                .onErrorComplete()
+                                .then(Mono.error(ex)))
+                        .flatMap(response -> complete(key, requestDto, response))
+                : idempotencyRepository.findByKey(key)
+                        .filter(stored -> stored.response() != null)
+                        .switchIfEmpty(Mono.error(() -> IdempotencyKeyConflictException.inProgress(key))));
+    }
+
+    private Mono<EmployeeIdempotencyRecordDto> complete(String key, EmployeeRequestDto requestDto,
+                                                        EmployeeResponseDto response) {
+        EmployeeIdempotencyRecordDto stored = EmployeeIdempotencyRecordDto.builder()
+                .key(key)
+                .request(requestDto)
+                .response(response)
+                .build();
+        // the request succeeded either way, only replays reaching other nodes depend on the response being stored
+        return idempotencyRepository.complete(key, response)
+                .doOnError(ex -> LOGGER.warn("Could not store the response for idempotency key {}", key, ex))
+                .onErrorComplete()
+                .thenReturn(stored);
+    }
+}
@@ -0,0 +1,95 @@
+package com.employeemanagement.metrics;
+
+import com.employeemanagement.exception.EmployeeManagementException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.function.Supplier;
+
+/**
+ * Times the operations of the employee service as the {@code employee.service} timer, tagged by {@code operation}
+ * and by {@code outcome}, so slow paths can be told apart from failing ones. The timer publishes a percentile
+ * histogram.
+ */
+@Component
+public class EmployeeServiceMetrics {
+    public static final String TIMER_NAME = "employee.service";
+
+    private final MeterRegistry meterRegistry;
+
+    public EmployeeServiceMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Times the {@link Mono} built by {@code operation} from subscription to termination. Building it is deferred to
+     * subscription time, so argument validation failures are timed too.
+     */
+    public <T> Mono<T> timed(String operation, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return Mono.defer(call)
+                    .doOnEach(signal -> {
+                        if (signal.isOnComplete() || signal.isOnError())
+                            sample.stop(timer(operation, outcome(signal.getThrowable())));
+                    })
+                    .doOnCancel(() -> sample.stop(timer(operation, Outcome.CANCELLED)));
+        });
+    }
+
+    /**
+     * Times the {@link Flux} built by {@code operation} from subscription until the last element was emitted.
+     */
+    public <T> Flux<T> timedMany(String operation, Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return Flux.defer(call).doOnError(ex -> sample.stop(timer(operation, outcome(ex))))
+                    .doFinally(signal -> {
+                        if (signal == SignalType.ON_COMPLETE)
+                            sample.stop(timer(operation, Outcome.SUCCESS));
+                        else if (signal == SignalType.CANCEL)
+                            sample.stop(timer(operation, Outcome.CANCELLED));
+                    });
+        });
+    }
+
+    private Timer timer(String operation, Outcome outcome) {
+        return Timer.builder(TIMER_NAME)
+                .description("Time spent in employee service operations")
+                .tag("operation", operation)
+                .tag("outcome", outcome.tag)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Outcome outcome(Throwable ex) {
+        if (ex == null)
+            return Outcome.SUCCESS;
+        if (ex instanceof IllegalArgumentException)
+            return Outcome.VALIDATION_ERROR;
+        if (!(ex instanceof EmployeeManagementException employeeManagementException))
+            return Outcome.ERROR;
+        return switch (employeeManagementException.getStatus()) {
+            case NOT_FOUND -> Outcome.NOT_FOUND;
+            case BAD_REQUEST -> Outcome.VALIDATION_ERROR;
+            case CONFLICT, PRECONDITION_FAILED -> Outcome.CONFLICT;
+            case SERVICE_UNAVAILABLE -> Outcome.REJECTED;
+            default -> Outcome.ERROR;
+        };
+    }
+
+    private enum Outcome {
+        SUCCESS("success"), NOT_FOUND("not-found"), VALIDATION_ERROR("validation-error"), CONFLICT("conflict"),
+        REJECTED("rejected"), ERROR("error"), CANCELLED("cancelled");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+    }
+}
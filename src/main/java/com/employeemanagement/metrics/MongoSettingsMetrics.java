@@ -0,0 +1,65 @@
+package com.employeemanagement.metrics;
+
+import com.employeemanagement.config.EmployeeMongoProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the Mongo client settings in effect, so dashboards show the configuration next to the pool and command
+ * metrics it explains: numeric settings as {@code employee.mongo.pool.size} and {@code employee.mongo.timeout}
+ * gauges, the others as tags of the {@code employee.mongo.client} gauge, and write concern overrides as tags of
+ * {@code employee.mongo.write-concern}.
+ */
+@Component
+public class MongoSettingsMetrics implements MeterBinder {
+    private final EmployeeMongoProperties properties;
+
+    public MongoSettingsMetrics(EmployeeMongoProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        EmployeeMongoProperties.Pool pool = properties.pool();
+        poolSize(registry, "min", pool.minSize());
+        poolSize(registry, "max", pool.maxSize());
+        poolSize(registry, "max-connecting", pool.maxConnecting());
+        timeout(registry, "pool-max-wait", pool.maxWaitTime());
+        timeout(registry, "pool-max-idle", pool.maxConnectionIdleTime());
+        timeout(registry, "connect", properties.socket().connectTimeout());
+        timeout(registry, "read", properties.socket().readTimeout());
+        Gauge.builder("employee.mongo.client", () -> 1)
+                .description("Mongo client settings, as tags")
+                .tags(Tags.of("compressors", String.join(",", properties.compressors()),
+                        "read-preference", properties.readPreference().getName(),
+                        "query-read-preference", properties.queryReadPreference().getName(),
+                        "write-concern", properties.writeConcern()))
+                .register(registry);
+        properties.writeConcerns().forEach((operation, writeConcern) ->
+                Gauge.builder("employee.mongo.write-concern", () -> 1)
+                        .description("Write concern overriding the client one for a template operation")
+                        .tags("operation", operation.name(), "write-concern", writeConcern)
+                        .register(registry));
+    }
+
+    private static void poolSize(MeterRegistry registry, String bound, int size) {
+        Gauge.builder("employee.mongo.pool.size", () -> size)
+                .description("Configured bound of the Mongo connection pool")
+                .tag("bound", bound)
+                .register(registry);
+    }
+
+    private static void timeout(MeterRegistry registry, String setting, Duration timeout) {
+        TimeGauge.builder("employee.mongo.timeout", timeout::toMillis, TimeUnit.MILLISECONDS)
+                .description("Configured Mongo client timeout, zero for none")
+                .tag("setting", setting)
+                .register(registry);
+    }
+}
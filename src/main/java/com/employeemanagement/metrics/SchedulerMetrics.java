@@ -0,0 +1,35 @@
+package com.employeemanagement.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes the {@code executor.*} meters of every executor backing a Reactor {@link reactor.core.scheduler.Scheduler},
+ * tagged with the scheduler name. The meters go to the global registry, which Spring Boot links to its own, because
+ * the default schedulers are created before the application context exists.
+ */
+public final class SchedulerMetrics {
+    private static final String DECORATOR_KEY = "employee-management-metrics";
+    private static final AtomicInteger EXECUTOR_COUNT = new AtomicInteger();
+
+    private SchedulerMetrics() {
+    }
+
+    /**
+     * Must run before the schedulers to observe are first used.
+     */
+    public static void enable() {
+        Schedulers.addExecutorServiceDecorator(DECORATOR_KEY, (scheduler, executor) -> {
+            String schedulerName = Scannable.from(scheduler).scanOrDefault(Scannable.Attr.NAME, scheduler.toString());
+            return ExecutorServiceMetrics.monitor(Metrics.globalRegistry, executor,
+                    STR."\{schedulerName}-\{EXECUTOR_COUNT.incrementAndGet()}", "reactor",
+                    List.of(Tag.of("reactor.scheduler", schedulerName)));
+        });
+    }
+}
@@ -0,0 +1,58 @@
+package com.employeemanagement.metrics;
+
+import com.employeemanagement.config.EmployeeBlockingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams the JFR events of virtual threads and publishes them, so calls that keep their carrier thread, typically by
+ * blocking inside a {@code synchronized} block or a native frame, show up before they starve the carrier pool:
+ * pinnings longer than {@code employee-management.blocking.pinned-threshold} as the
+ * {@code employee.virtual-threads.pinned} timer, and virtual threads that could not be started or resumed as the
+ * {@code employee.virtual-threads.submit-failed} counter.
+ */
+@Component
+@ConditionalOnProperty(prefix = "employee-management.blocking", name = "mode", havingValue = "virtual-threads",
+        matchIfMissing = true)
+public class VirtualThreadPinningMetrics {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+
+    private final EmployeeBlockingProperties properties;
+    private final Timer pinned;
+    private final Counter submitFailed;
+    private RecordingStream recording;
+
+    public VirtualThreadPinningMetrics(EmployeeBlockingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pinned = Timer.builder("employee.virtual-threads.pinned")
+                .description("Time virtual threads stayed pinned to their carrier thread")
+                .register(meterRegistry);
+        this.submitFailed = Counter.builder("employee.virtual-threads.submit-failed")
+                .description("Virtual threads that could not be started or resumed on a carrier thread")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(properties.pinnedThreshold());
+        recording.enable(SUBMIT_FAILED_EVENT);
+        recording.onEvent(PINNED_EVENT, event -> pinned.record(event.getDuration()));
+        recording.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailed.increment());
+        recording.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null)
+            recording.close();
+    }
+}
@@ -1,5 +1,6 @@
 package com.employeemanagement.model;
 
 public enum HttpErrorCode {
-    RESOURCE_NOT_FOUND, MISSING_REQUIRED_ARGUMENT
+    RESOURCE_NOT_FOUND, MISSING_REQUIRED_ARGUMENT, PRECONDITION_FAILED, RESOURCE_ALREADY_EXISTS, INVALID_REQUEST,
+    SERVICE_OVERLOADED, IDEMPOTENCY_KEY_CONFLICT, INTERNAL_SERVER_ERROR
 }
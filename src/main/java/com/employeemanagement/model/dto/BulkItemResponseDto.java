@@ -0,0 +1,36 @@
+package com.employeemanagement.model.dto;
+
+public record BulkItemResponseDto(
+        long index,
+        String id,
+        String error
+) {
+    public static BulkItemResponseDtoBuilder builder() {
+        return new BulkItemResponseDtoBuilder();
+    }
+
+    public static class BulkItemResponseDtoBuilder {
+        private long index;
+        private String id;
+        private String error;
+
+        public BulkItemResponseDtoBuilder index(long index) {
+            this.index = index;
+            return this;
+        }
+
+        public BulkItemResponseDtoBuilder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public BulkItemResponseDtoBuilder error(String error) {
+            this.error = error;
+            return this;
+        }
+
+        public BulkItemResponseDto build() {
+            return new BulkItemResponseDto(index, id, error);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.employeemanagement.model.dto;
+
+import java.time.Instant;
+
+/**
+ * A change made to an employee through the service, as kept in its history.
+ *
+ * @param version   version the employee reached with the change, {@literal null} for {@link Action#DELETED}
+ * @param timestamp when the change was made
+ */
+public record EmployeeAuditEntryDto(
+        String employeeId,
+        Action action,
+        Long version,
+        String firstName,
+        String lastName,
+        String email,
+        Instant timestamp
+) {
+    public enum Action {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static EmployeeAuditEntryDtoBuilder builder() {
+        return new EmployeeAuditEntryDtoBuilder();
+    }
+
+    public static class EmployeeAuditEntryDtoBuilder {
+        private String employeeId;
+        private Action action;
+        private Long version;
+        private String firstName;
+        private String lastName;
+        private String email;
+        private Instant timestamp;
+
+        public EmployeeAuditEntryDtoBuilder employeeId(String employeeId) {
+            this.employeeId = employeeId;
+            return this;
+        }
+
+        public EmployeeAuditEntryDtoBuilder action(Action action) {
+            this.action = action;
+            return this;
+        }
+
+        public EmployeeAuditEntryDtoBuilder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
+        public EmployeeAuditEntryDtoBuilder firstName(String firstName) {
+            this.firstName = firstName;
+            return this;
+        }
+
+        public EmployeeAuditEntryDtoBuilder lastName(String lastName) {
+            this.lastName = lastName;
+            return this;
+        }
+
+        public EmployeeAuditEntryDtoBuilder email(String email) {
+            this.email = email;
+            return this;
+        }
+
+        public EmployeeAuditEntryDtoBuilder timestamp(Instant timestamp) {
+            this.timestamp = timestamp;
+            return this;
+        }
+
+        public EmployeeAuditEntryDto build() {
+            return new EmployeeAuditEntryDto(employeeId, action, version, firstName, lastName, email, timestamp);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.employeemanagement.model.dto;
+
+/**
+ * Request made with an idempotency key, and the response replayed for it.
+ *
+ * @param response response of the first request, {@literal null} while it is in progress
+ */
+public record EmployeeIdempotencyRecordDto(
+        String key,
+        EmployeeRequestDto request,
+        EmployeeResponseDto response
+) {
+    public static EmployeeIdempotencyRecordDtoBuilder builder() {
+        return new EmployeeIdempotencyRecordDtoBuilder();
+    }
+
+    public static class EmployeeIdempotencyRecordDtoBuilder {
+        private String key;
+        private EmployeeRequestDto request;
+        private EmployeeResponseDto response;
+
+        public EmployeeIdempotencyRecordDtoBuilder key(String key) {
+            this.key = key;
+            return this;
+        }
+
+        public EmployeeIdempotencyRecordDtoBuilder request(EmployeeRequestDto request) {
+            this.request = request;
+            return this;
+        }
+
+        public EmployeeIdempotencyRecordDtoBuilder response(EmployeeResponseDto response) {
+            this.response = response;
+            return this;
+        }
+
+        public EmployeeIdempotencyRecordDto build() {
+            return new EmployeeIdempotencyRecordDto(key, request, response);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.employeemanagement.model.dto;
+
+import java.time.Instant;
+
+/**
+ * Event published to downstream systems for a change made to an employee, carrying the employee as the change left
+ * it. Delivery is at least once, so consumers tell redeliveries apart by {@code id}.
+ *
+ * @param id      ID of the outbox record, the same across redeliveries
+ * @param version version the employee reached with the change, for {@link Type#DELETED} the one after its last
+ */
+public record EmployeeOutboxEventDto(
+        String id,
+        String employeeId,
+        Type type,
+        Long version,
+        String firstName,
+        String lastName,
+        String email,
+        Instant timestamp
+) {
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static EmployeeOutboxEventDtoBuilder builder() {
+        return new EmployeeOutboxEventDtoBuilder();
+    }
+
+    public static class EmployeeOutboxEventDtoBuilder {
+        private String id;
+        private String employeeId;
+        private Type type;
+        private Long version;
+        private String firstName;
+        private String lastName;
+        private String email;
+        private Instant timestamp;
+
+        public EmployeeOutboxEventDtoBuilder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public EmployeeOutboxEventDtoBuilder employeeId(String employeeId) {
+            this.employeeId = employeeId;
+            return this;
+        }
+
+        public EmployeeOutboxEventDtoBuilder type(Type type) {
+            this.type = type;
+            return this;
+        }
+
+        public EmployeeOutboxEventDtoBuilder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
+        public EmployeeOutboxEventDtoBuilder firstName(String firstName) {
+            this.firstName = firstName;
+            return this;
+        }
+
+        public EmployeeOutboxEventDtoBuilder lastName(String lastName) {
+            this.lastName = lastName;
+            return this;
+        }
+
+        public EmployeeOutboxEventDtoBuilder email(String email) {
+            this.email = email;
+            return this;
+        }
+
+        public EmployeeOutboxEventDtoBuilder timestamp(Instant timestamp) {
+            this.timestamp = timestamp;
+            return this;
+        }
+
+        public EmployeeOutboxEventDto build() {
+            return new EmployeeOutboxEventDto(id, employeeId, type, version, firstName, lastName, email, timestamp);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.employeemanagement.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.Instant;
+
 public record EmployeeResponseDto(
         String id,
         String firstName,
         String lastName,
-        String email
+        String email,
+        @JsonIgnore Long version,
+        @JsonIgnore Instant lastModified
 ) {
     public static EmployeeResponseDtoBuilder builder() {
         return new EmployeeResponseDtoBuilder();
@@ -15,6 +21,8 @@ public record EmployeeResponseDto(
         private String firstName;
         private String lastName;
         private String email;
+        private Long version;
+        private Instant lastModified;
 
         public EmployeeResponseDtoBuilder id(String id) {
             this.id = id;
@@ -36,8 +44,18 @@ public record EmployeeResponseDto(
             return this;
         }
 
+        public EmployeeResponseDtoBuilder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
+        public EmployeeResponseDtoBuilder lastModified(Instant lastModified) {
+            this.lastModified = lastModified;
+            return this;
+        }
+
         public EmployeeResponseDto build() {
-            return new EmployeeResponseDto(id, firstName, lastName, email);
+            return new EmployeeResponseDto(id, firstName, lastName, email, version, lastModified);
         }
     }
 }
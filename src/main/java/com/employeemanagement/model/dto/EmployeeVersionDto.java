@@ -0,0 +1,9 @@
+package com.employeemanagement.model.dto;
+
+import java.time.Instant;
+
+/**
+ * What conditional requests are validated against: the version behind the entity tag and the last modification date.
+ */
+public record EmployeeVersionDto(Long version, Instant lastModified) {
+}
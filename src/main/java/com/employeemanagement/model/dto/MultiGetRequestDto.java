@@ -0,0 +1,11 @@
+package com.employeemanagement.model.dto;
+
+import java.util.List;
+
+/**
+ * Body of {@code POST /api/v1/employees/_mget}.
+ *
+ * @param ids IDs of the employees to read
+ */
+public record MultiGetRequestDto(List<String> ids) {
+}
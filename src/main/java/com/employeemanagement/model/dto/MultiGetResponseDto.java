@@ -0,0 +1,37 @@
+package com.employeemanagement.model.dto;
+
+import java.util.List;
+
+/**
+ * Employees read by ID in a single request.
+ *
+ * @param employees the employees found, in the order their IDs were requested
+ * @param missing   the requested IDs no employee was found for, in the order they were requested
+ */
+public record MultiGetResponseDto(
+        List<EmployeeResponseDto> employees,
+        List<String> missing
+) {
+    public static MultiGetResponseDtoBuilder builder() {
+        return new MultiGetResponseDtoBuilder();
+    }
+
+    public static class MultiGetResponseDtoBuilder {
+        private List<EmployeeResponseDto> employees;
+        private List<String> missing;
+
+        public MultiGetResponseDtoBuilder employees(List<EmployeeResponseDto> employees) {
+            this.employees = employees;
+            return this;
+        }
+
+        public MultiGetResponseDtoBuilder missing(List<String> missing) {
+            this.missing = missing;
+            return this;
+        }
+
+        public MultiGetResponseDto build() {
+            return new MultiGetResponseDto(employees, missing);
+        }
+    }
+}
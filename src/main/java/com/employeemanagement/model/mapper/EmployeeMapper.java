@@ -7,5 +7,7 @@ import com.employeemanagement.model.dto.EmployeeResponseDto;
 public interface EmployeeMapper {
     Employee toDocument(EmployeeRequestDto dto);
 
+    Employee toDocument(EmployeeRequestDto dto, String id);
+
     EmployeeResponseDto toDto(Employee document);
 }
@@ -18,6 +18,19 @@ public class EmployeeMapperImpl implements EmployeeMapper {
                 .build();
     }
 
+    @Override
+    public Employee toDocument(EmployeeRequestDto dto, String id) {
+        Assert.notNull(dto, "Dto object must not be null.");
+        // documents with an assigned id skip the version initialization done by insert, so start them here
+        return Employee.builder()
+                .id(id)
+                .firstName(dto.firstName())
+                .lastName(dto.lastName())
+                .email(dto.email())
+                .version(0L)
+                .build();
+    }
+
     @Override
     public EmployeeResponseDto toDto(Employee document) {
         Assert.notNull(document, "Document object must not be null.");
@@ -26,6 +39,8 @@ public class EmployeeMapperImpl implements EmployeeMapper {
                 .firstName(document.getFirstName())
                 .lastName(document.getLastName())
                 .email(document.getEmail())
+                .version(document.getVersion())
+                .lastModified(document.getLastModified())
                 .build();
     }
 }
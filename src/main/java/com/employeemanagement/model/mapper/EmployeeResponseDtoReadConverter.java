@@ -0,0 +1,27 @@
+package com.employeemanagement.model.mapper;
+
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.core.convert.converter.Converter;
+
+import java.util.Date;
+
+/**
+ * Reads a raw {@code employees} document straight into an {@link EmployeeResponseDto}, so reads skip the reflective
+ * mapping into an {@code Employee} and the copy made by {@link EmployeeMapper#toDto}. Fields missing from the
+ * document, because they were left out of the query projection, are read as {@literal null}.
+ */
+public class EmployeeResponseDtoReadConverter implements Converter<Document, EmployeeResponseDto> {
+    @Override
+    public EmployeeResponseDto convert(Document source) {
+        Object id = source.get("_id");
+        return new EmployeeResponseDto(
+                id instanceof ObjectId objectId ? objectId.toHexString() : (String) id,
+                source.getString("firstName"),
+                source.getString("lastName"),
+                source.getString("email"),
+                source.get("version") instanceof Number version ? version.longValue() : null,
+                source.get("lastModified") instanceof Date lastModified ? lastModified.toInstant() : null);
+    }
+}
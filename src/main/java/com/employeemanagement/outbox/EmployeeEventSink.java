@@ -0,0 +1,18 @@
+package com.employeemanagement.outbox;
+
+import com.employeemanagement.model.dto.EmployeeOutboxEventDto;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Where the {@link EmployeeOutboxRelay} publishes employee events to. Defining a bean of this type replaces the sink
+ * picked by {@code employee-management.outbox.sink}.
+ */
+public interface EmployeeEventSink {
+    /**
+     * Publishes the events in the order given. Completing means every event was durably taken; on error the whole
+     * batch is published again later, so a sink may see an event more than once.
+     */
+    Mono<Void> publish(List<EmployeeOutboxEventDto> events);
+}
@@ -0,0 +1,71 @@
+package com.employeemanagement.outbox;
+
+import com.employeemanagement.document.Employee;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Records the events of employee writes in the outbox the {@link EmployeeOutboxRelay} publishes from, atomically with
+ * the writes themselves.
+ */
+public interface EmployeeOutbox {
+    /**
+     * Runs {@code write} and records the creation of the employee it returns, both or neither.
+     */
+    Mono<EmployeeResponseDto> created(Mono<EmployeeResponseDto> write);
+
+    /**
+     * Runs {@code write} and records the update of the employee it returns, both or neither. Nothing is recorded when
+     * {@code write} completes empty.
+     */
+    Mono<EmployeeResponseDto> updated(Mono<EmployeeResponseDto> write);
+
+    /**
+     * Inserts {@code employees} with {@code insert} and records the creation of each one inserted, all or nothing.
+     *
+     * @param insert inserts the employees given and returns the errors of those it could not insert, by index
+     * @return the errors of the employees not inserted, by index in {@code employees}
+     */
+    Mono<Map<Integer, String>> createdAll(List<Employee> employees,
+                                          Function<List<Employee>, Mono<Map<Integer, String>>> insert);
+
+    /**
+     * Runs {@code delete} and records the deletion of the employee, both or neither. Nothing is recorded when
+     * {@code delete} completes empty, as no employee had the ID.
+     *
+     * @param delete deletes the employee and returns it as it was, with its version at least
+     */
+    Mono<Employee> deleted(String employeeId, Mono<Employee> delete);
+
+    /**
+     * @return an outbox running the writes as they are, recording nothing
+     */
+    static EmployeeOutbox disabled() {
+        return new EmployeeOutbox() {
+            @Override
+            public Mono<EmployeeResponseDto> created(Mono<EmployeeResponseDto> write) {
+                return write;
+            }
+
+            @Override
+            public Mono<EmployeeResponseDto> updated(Mono<EmployeeResponseDto> write) {
+                return write;
+            }
+
+            @Override
+            public Mono<Map<Integer, String>> createdAll(List<Employee> employees,
+                                                         Function<List<Employee>, Mono<Map<Integer, String>>> insert) {
+                return insert.apply(employees);
+            }
+
+            @Override
+            public Mono<Employee> deleted(String employeeId, Mono<Employee> delete) {
+                return delete;
+            }
+        };
+    }
+}
@@ -0,0 +1,177 @@
+package com.employeemanagement.outbox;
+
+import com.employeemanagement.config.EmployeeOutboxProperties;
+import com.employeemanagement.model.dto.EmployeeOutboxEventDto;
+import com.employeemanagement.repository.EmployeeOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Publishes the outbox to the {@link EmployeeEventSink}, oldest events first, one batch at a time. A batch is removed
+ * from the outbox only once the sink took it, so every event is published at least once.
+ * <p>
+ * The events of an employee are published in the order of the versions they left it at. Event IDs generated on
+ * different nodes do not follow that order, so a batch takes in every other event of its employees, which holds any
+ * older version: the change it records was committed first. Events repeating a version are published once.
+ * <p>
+ * Every node runs a relay, but only the one holding the lease in {@code employee_outbox_lease} publishes. It extends
+ * the lease before each batch, and another node takes over once it expired, after
+ * {@code employee-management.outbox.lease-duration}.
+ * <p>
+ * Published events are counted as {@code employee.outbox.published}, and each batch is timed as
+ * {@code employee.outbox.publish}, tagged by {@code outcome}, and sized as {@code employee.outbox.batch-size}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "employee-management.outbox", name = "enabled", havingValue = "true")
+public class EmployeeOutboxRelay {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeOutboxRelay.class);
+
+    private final EmployeeOutboxRepository outboxRepository;
+    private final EmployeeEventSink sink;
+    private final EmployeeOutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Counter published;
+    private final DistributionSummary batchSizes;
+    private final String owner = UUID.randomUUID().toString();
+    private Disposable subscription;
+
+    public EmployeeOutboxRelay(EmployeeOutboxRepository outboxRepository, EmployeeEventSink sink,
+                               EmployeeOutboxProperties properties, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.published = Counter.builder("employee.outbox.published")
+                .description("Employee events published by the outbox relay")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("employee.outbox.batch-size")
+                .description("Employee events published by the outbox relay at once")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = outboxRepository.createIndexes()
+                .doOnError(ex -> LOGGER.warn("Could not create the employee outbox indexes", ex))
+                .onErrorComplete()
+                .thenMany(Flux.interval(properties.pollInterval()))
+                .onBackpressureDrop()
+                .concatMap(tick -> relay())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null)
+            subscription.dispose();
+        // another node takes over right away rather than once the lease expired
+        outboxRepository.releaseLease(owner)
+                .doOnError(ex -> LOGGER.warn("Could not release the employee outbox lease", ex))
+                .onErrorComplete()
+                .block();
+    }
+
+    /**
+     * Publishes batches for as long as they come full, so a backlog drains without waiting for the next poll.
+     */
+    private Mono<Void> relay() {
+        return Mono.defer(this::relayBatch)
+                .repeat()
+                .takeWhile(relayed -> relayed >= properties.batchSize())
+                .then();
+    }
+
+    /**
+     * @return the number of oldest events the batch was made from, zero when this node does not hold the lease
+     */
+    private Mono<Integer> relayBatch() {
+        return outboxRepository.tryLease(owner, properties.leaseDuration())
+                .flatMap(leased -> !leased ? Mono.just(0) : outboxRepository.findOldest(properties.batchSize())
+                        .collectList()
+                        .flatMap(oldest -> oldest.isEmpty() ? Mono.just(0) : outboxRepository
+                                .findAllByEmployeeId(employeeIds(oldest))
+                                .collectList()
+                                .flatMap(events -> publish(inVersionOrder(oldest, events))
+                                        .then(Mono.defer(() -> outboxRepository.deleteAllById(ids(events)))))
+                                .thenReturn(oldest.size())))
+                .onErrorResume(ex -> {
+                    // the batch stays in the outbox and is published again on the next poll
+                    LOGGER.warn("Could not relay employee events from the outbox", ex);
+                    return Mono.just(0);
+                });
+    }
+
+    private Mono<Void> publish(List<EmployeeOutboxEventDto> events) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return sink.publish(events)
+                    .doOnSuccess(done -> {
+                        sample.stop(timer("success"));
+                        published.increment(events.size());
+                        batchSizes.record(events.size());
+                    })
+                    .doOnError(ex -> sample.stop(timer("error")));
+        });
+    }
+
+    private Timer timer(String outcome) {
+        return Timer.builder("employee.outbox.publish")
+                .description("Time the sink took to publish a batch of employee events")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Set<String> employeeIds(List<EmployeeOutboxEventDto> events) {
+        Set<String> employeeIds = new LinkedHashSet<>();
+        for (EmployeeOutboxEventDto event : events)
+            employeeIds.add(event.employeeId());
+        return employeeIds;
+    }
+
+    /**
+     * @param oldest the oldest events, whose employees are published in the order they first appear in
+     * @param events every event of those employees, ordered by employee then by version
+     */
+    private static List<EmployeeOutboxEventDto> inVersionOrder(List<EmployeeOutboxEventDto> oldest,
+                                                               List<EmployeeOutboxEventDto> events) {
+        Map<String, List<EmployeeOutboxEventDto>> byEmployee = new LinkedHashMap<>();
+        for (String employeeId : employeeIds(oldest))
+            byEmployee.put(employeeId, new ArrayList<>());
+        for (EmployeeOutboxEventDto event : events) {
+            List<EmployeeOutboxEventDto> employeeEvents = byEmployee.get(event.employeeId());
+            EmployeeOutboxEventDto previous = employeeEvents.isEmpty() ? null : employeeEvents.getLast();
+            if (previous == null || event.version() == null || !event.version().equals(previous.version()))
+                employeeEvents.add(event);
+        }
+        List<EmployeeOutboxEventDto> ordered = new ArrayList<>(events.size());
+        byEmployee.values().forEach(ordered::addAll);
+        return ordered;
+    }
+
+    private static List<String> ids(List<EmployeeOutboxEventDto> events) {
+        List<String> ids = new ArrayList<>(events.size());
+        for (EmployeeOutboxEventDto event : events)
+            ids.add(event.id());
+        return ids;
+    }
+}
@@ -0,0 +1,65 @@
+package com.employeemanagement.outbox;
+
+import com.employeemanagement.model.dto.EmployeeOutboxEventDto;
+import com.employeemanagement.scheduling.BlockingCalls;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends the published events to a local file, one JSON object per line, and flushes them to the storage device
+ * before a batch counts as published. The file is written on the blocking scheduler.
+ */
+public class FileEmployeeEventSink implements EmployeeEventSink {
+    private static final byte NEW_LINE = '\n';
+
+    private final Path file;
+    private final ObjectWriter writer;
+    private final BlockingCalls blockingCalls;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileEmployeeEventSink(Path file, ObjectMapper objectMapper, BlockingCalls blockingCalls) {
+        this.file = file;
+        this.writer = objectMapper.writerFor(EmployeeOutboxEventDto.class);
+        this.blockingCalls = blockingCalls;
+    }
+
+    @Override
+    public Mono<Void> publish(List<EmployeeOutboxEventDto> events) {
+        return blockingCalls.call(() -> {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (EmployeeOutboxEventDto event : events) {
+                lines.write(writer.writeValueAsBytes(event));
+                lines.write(NEW_LINE);
+            }
+            append(ByteBuffer.wrap(lines.toByteArray()));
+            return events.size();
+        }).then();
+    }
+
+    private void append(ByteBuffer lines) throws IOException {
+        lock.lock();
+        try {
+            if (file.getParent() != null)
+                Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                while (lines.hasRemaining())
+                    channel.write(lines);
+                channel.force(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.employeemanagement.outbox;
+
+import com.employeemanagement.model.dto.EmployeeOutboxEventDto;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps the published events in memory, for tests.
+ */
+public class InMemoryEmployeeEventSink implements EmployeeEventSink {
+    private final List<EmployeeOutboxEventDto> events = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Mono<Void> publish(List<EmployeeOutboxEventDto> events) {
+        return Mono.fromRunnable(() -> this.events.addAll(events));
+    }
+
+    /**
+     * @return the events published so far, in the order they were published
+     */
+    public List<EmployeeOutboxEventDto> events() {
+        return List.copyOf(events);
+    }
+}
@@ -0,0 +1,147 @@
+package com.employeemanagement.outbox;
+
+import com.employeemanagement.document.Employee;
+import com.employeemanagement.model.dto.EmployeeOutboxEventDto;
+import com.employeemanagement.model.dto.EmployeeOutboxEventDto.Type;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.repository.EmployeeOutboxRepository;
+import com.mongodb.MongoException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Writes the employee change and its outbox record in one Mongo transaction. Transactions hitting a write conflict
+ * with a concurrent one are retried a few times, as Mongo aborts them instead of waiting.
+ * <p>
+ * A bulk insert is written with the outbox records of its employees in one transaction too. Any failed insert aborts
+ * a transaction, so the employees that failed are left out and the others inserted again in a new one.
+ */
+public class TransactionalEmployeeOutbox implements EmployeeOutbox {
+    private static final int TRANSIENT_RETRIES = 3;
+
+    private final EmployeeOutboxRepository outboxRepository;
+    private final TransactionalOperator transactionalOperator;
+
+    public TransactionalEmployeeOutbox(EmployeeOutboxRepository outboxRepository,
+                                       TransactionalOperator transactionalOperator) {
+        this.outboxRepository = outboxRepository;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    @Override
+    public Mono<EmployeeResponseDto> created(Mono<EmployeeResponseDto> write) {
+        return record(write, Type.CREATED);
+    }
+
+    @Override
+    public Mono<EmployeeResponseDto> updated(Mono<EmployeeResponseDto> write) {
+        return record(write, Type.UPDATED);
+    }
+
+    @Override
+    public Mono<Map<Integer, String>> createdAll(List<Employee> employees,
+                                                 Function<List<Employee>, Mono<Map<Integer, String>>> insert) {
+        return insertAll(employees, IntStream.range(0, employees.size()).boxed().toList(), new HashMap<>(), insert);
+    }
+
+    @Override
+    public Mono<Employee> deleted(String employeeId, Mono<Employee> delete) {
+        return inTransaction(delete.flatMap(employee -> outboxRepository.insert(EmployeeOutboxEventDto.builder()
+                .employeeId(employeeId)
+                .type(Type.DELETED)
+                // the deletion is one more change of the employee, ordered after the version it deleted
+                .version(employee.getVersion() == null ? null : employee.getVersion() + 1)
+                .timestamp(Instant.now())
+                .build()).thenReturn(employee)));
+    }
+
+    /**
+     * @param indexes index in the original bulk of each employee in {@code employees}
+     * @param errors  errors of the employees left out so far, by index in the original bulk
+     */
+    private Mono<Map<Integer, String>> insertAll(List<Employee> employees, List<Integer> indexes,
+                                                 Map<Integer, String> errors,
+                                                 Function<List<Employee>, Mono<Map<Integer, String>>> insert) {
+        if (employees.isEmpty())
+            return Mono.just(errors);
+        return inTransaction(Mono.defer(() -> insert.apply(employees)).flatMap(failed -> failed.isEmpty()
+                        ? outboxRepository.insertAll(toEvents(employees)).thenReturn(errors)
+                        : Mono.error(new FailedInsertsException(failed))))
+                .onErrorResume(FailedInsertsException.class, ex -> {
+                    List<Employee> remaining = new ArrayList<>(employees.size());
+                    List<Integer> remainingIndexes = new ArrayList<>(employees.size());
+                    for (int i = 0; i < employees.size(); i++) {
+                        String error = ex.errors.get(i);
+                        if (error == null) {
+                            remaining.add(employees.get(i));
+                            remainingIndexes.add(indexes.get(i));
+                        } else {
+                            errors.put(indexes.get(i), error);
+                        }
+                    }
+                    return insertAll(remaining, remainingIndexes, errors, insert);
+                });
+    }
+
+    private Mono<EmployeeResponseDto> record(Mono<EmployeeResponseDto> write, Type type) {
+        return inTransaction(write.flatMap(employee -> outboxRepository.insert(toEvent(employee, type))
+                .thenReturn(employee)));
+    }
+
+    private <T> Mono<T> inTransaction(Mono<T> writes) {
+        return transactionalOperator.transactional(writes)
+                .retryWhen(Retry.max(TRANSIENT_RETRIES).filter(TransactionalEmployeeOutbox::isTransient));
+    }
+
+    private static boolean isTransient(Throwable ex) {
+        return NestedExceptionUtils.getMostSpecificCause(ex) instanceof MongoException mongoException
+                && mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+    }
+
+    private static List<EmployeeOutboxEventDto> toEvents(List<Employee> employees) {
+        List<EmployeeOutboxEventDto> events = new ArrayList<>(employees.size());
+        for (Employee employee : employees)
+            events.add(EmployeeOutboxEventDto.builder()
+                    .employeeId(employee.getId())
+                    .type(Type.CREATED)
+                    .version(employee.getVersion())
+                    .firstName(employee.getFirstName())
+                    .lastName(employee.getLastName())
+                    .email(employee.getEmail())
+                    .timestamp(employee.getLastModified() == null ? Instant.now() : employee.getLastModified())
+                    .build());
+        return events;
+    }
+
+    private static EmployeeOutboxEventDto toEvent(EmployeeResponseDto employee, Type type) {
+        return EmployeeOutboxEventDto.builder()
+                .employeeId(employee.id())
+                .type(type)
+                .version(employee.version())
+                .firstName(employee.firstName())
+                .lastName(employee.lastName())
+                .email(employee.email())
+                .timestamp(employee.lastModified() == null ? Instant.now() : employee.lastModified())
+                .build();
+    }
+
+    // rolls back a bulk insert some employees of failed, carrying their errors
+    private static class FailedInsertsException extends RuntimeException {
+        private final transient Map<Integer, String> errors;
+
+        private FailedInsertsException(Map<Integer, String> errors) {
+            super(null, null, false, false);
+            this.errors = errors;
+        }
+    }
+}
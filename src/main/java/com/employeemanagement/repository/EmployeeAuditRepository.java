@@ -0,0 +1,28 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.model.dto.EmployeeAuditEntryDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Access to the {@code employee_audit} collection holding the history of the changes made to employees.
+ */
+public interface EmployeeAuditRepository {
+    /**
+     * Creates the collection, as time-series or capped depending on {@code employee-management.audit.collection-type},
+     * along with its index by employee, unless it already exists.
+     */
+    Mono<Void> createCollection();
+
+    /**
+     * Inserts the changes with a single unordered {@code insertMany}.
+     */
+    Mono<Void> insertAll(List<EmployeeAuditEntryDto> entries);
+
+    /**
+     * Reads the changes made to an employee, most recent first.
+     */
+    Flux<EmployeeAuditEntryDto> findHistory(String employeeId, int limit);
+}
@@ -0,0 +1,98 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.config.EmployeeAuditProperties;
+import com.employeemanagement.model.dto.EmployeeAuditEntryDto;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public class EmployeeAuditRepositoryImpl implements EmployeeAuditRepository {
+    private static final String AUDIT_COLLECTION = "employee_audit";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final EmployeeAuditProperties properties;
+
+    public EmployeeAuditRepositoryImpl(ReactiveMongoTemplate mongoTemplate, EmployeeAuditProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public Mono<Void> createCollection() {
+        CollectionOptions options = switch (properties.collectionType()) {
+            case TIME_SERIES -> CollectionOptions.empty().timeSeries(CollectionOptions.TimeSeriesOptions
+                    .timeSeries("timestamp").metaField("employeeId").granularity(Granularity.SECONDS));
+            case CAPPED -> CollectionOptions.empty().capped().size(properties.cappedSize().toBytes());
+        };
+        return mongoTemplate.collectionExists(AUDIT_COLLECTION)
+                .filter(exists -> !exists)
+                .flatMap(missing -> mongoTemplate.createCollection(AUDIT_COLLECTION, options))
+                .then(mongoTemplate.indexOps(AUDIT_COLLECTION).ensureIndex(new Index()
+                        .named("employeeId_timestamp")
+                        .on("employeeId", Sort.Direction.ASC)
+                        .on("timestamp", Sort.Direction.DESC)))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> insertAll(List<EmployeeAuditEntryDto> entries) {
+        Assert.notEmpty(entries, "Audit entries to insert must not be empty.");
+        List<Document> documents = new ArrayList<>(entries.size());
+        for (EmployeeAuditEntryDto entry : entries)
+            documents.add(toDocument(entry));
+        return mongoTemplate.insert(documents, AUDIT_COLLECTION).then();
+    }
+
+    @Override
+    public Flux<EmployeeAuditEntryDto> findHistory(String employeeId, int limit) {
+        Assert.notNull(employeeId, "Employee ID must not be null.");
+        Query query = Query.query(Criteria.where("employeeId").is(employeeId))
+                .with(Sort.by(Sort.Direction.DESC, "timestamp"))
+                .limit(limit);
+        return mongoTemplate.find(query, Document.class, AUDIT_COLLECTION).map(EmployeeAuditRepositoryImpl::toEntry);
+    }
+
+    // raw documents, like the employee reads: the entries are flat and need no mapping metadata
+    private static Document toDocument(EmployeeAuditEntryDto entry) {
+        Document document = new Document("employeeId", entry.employeeId())
+                .append("action", entry.action().name())
+                .append("timestamp", Date.from(entry.timestamp()));
+        if (entry.version() != null)
+            document.append("version", entry.version());
+        if (entry.firstName() != null)
+            document.append("firstName", entry.firstName());
+        if (entry.lastName() != null)
+            document.append("lastName", entry.lastName());
+        if (entry.email() != null)
+            document.append("email", entry.email());
+        return document;
+    }
+
+    private static EmployeeAuditEntryDto toEntry(Document document) {
+        Number version = document.get("version", Number.class);
+        Date timestamp = document.getDate("timestamp");
+        return EmployeeAuditEntryDto.builder()
+                .employeeId(document.getString("employeeId"))
+                .action(EmployeeAuditEntryDto.Action.valueOf(document.getString("action")))
+                .version(version == null ? null : version.longValue())
+                .firstName(document.getString("firstName"))
+                .lastName(document.getString("lastName"))
+                .email(document.getString("email"))
+                .timestamp(timestamp == null ? null : timestamp.toInstant())
+                .build();
+    }
+}
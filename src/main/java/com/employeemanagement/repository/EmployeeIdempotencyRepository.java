@@ -0,0 +1,37 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.model.dto.EmployeeIdempotencyRecordDto;
+import com.employeemanagement.model.dto.EmployeeRequestDto;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Access to the {@code employee_idempotency} collection holding the requests made with an idempotency key.
+ */
+public interface EmployeeIdempotencyRepository {
+    /**
+     * Creates the index expiring records {@code ttl} after their key was reserved.
+     */
+    Mono<Void> createIndexes(Duration ttl);
+
+    /**
+     * Reserves the key for the request.
+     *
+     * @return {@literal false} when the key is already reserved
+     */
+    Mono<Boolean> reserve(String key, EmployeeRequestDto request);
+
+    /**
+     * Stores the response of the request the key was reserved for.
+     */
+    Mono<Void> complete(String key, EmployeeResponseDto response);
+
+    /**
+     * Frees a key whose request failed, unless it was completed.
+     */
+    Mono<Void> release(String key);
+
+    Mono<EmployeeIdempotencyRecordDto> findByKey(String key);
+}
@@ -0,0 +1,120 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.model.dto.EmployeeIdempotencyRecordDto;
+import com.employeemanagement.model.dto.EmployeeRequestDto;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Date;
+
+@Repository
+public class EmployeeIdempotencyRepositoryImpl implements EmployeeIdempotencyRepository {
+    private static final String IDEMPOTENCY_COLLECTION = "employee_idempotency";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public EmployeeIdempotencyRepositoryImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Mono<Void> createIndexes(Duration ttl) {
+        return mongoTemplate.indexOps(IDEMPOTENCY_COLLECTION).ensureIndex(new Index()
+                        .named("createdAt_ttl")
+                        .on("createdAt", Sort.Direction.ASC)
+                        .expire(ttl))
+                .then();
+    }
+
+    @Override
+    public Mono<Boolean> reserve(String key, EmployeeRequestDto request) {
+        Assert.notNull(key, "Idempotency key must not be null.");
+        Document document = new Document("_id", key)
+                .append("request", toDocument(request))
+                .append("createdAt", new Date());
+        // the key being the _id, Mongo lets a single request reserve it, whichever node it reached
+        return mongoTemplate.insert(document, IDEMPOTENCY_COLLECTION)
+                .thenReturn(true)
+                .onErrorResume(DuplicateKeyException.class, ex -> Mono.just(false));
+    }
+
+    @Override
+    public Mono<Void> complete(String key, EmployeeResponseDto response) {
+        Assert.notNull(response, "Response to store must not be null.");
+        return mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(key)),
+                Update.update("response", toDocument(response)), IDEMPOTENCY_COLLECTION).then();
+    }
+
+    @Override
+    public Mono<Void> release(String key) {
+        Query query = Query.query(Criteria.where("_id").is(key).and("response").exists(false));
+        return mongoTemplate.remove(query, IDEMPOTENCY_COLLECTION).then();
+    }
+
+    @Override
+    public Mono<EmployeeIdempotencyRecordDto> findByKey(String key) {
+        return mongoTemplate.findById(key, Document.class, IDEMPOTENCY_COLLECTION)
+                .map(EmployeeIdempotencyRepositoryImpl::toRecord);
+    }
+
+    private static Document toDocument(EmployeeRequestDto request) {
+        Document document = new Document();
+        if (request.firstName() != null)
+            document.append("firstName", request.firstName());
+        if (request.lastName() != null)
+            document.append("lastName", request.lastName());
+        if (request.email() != null)
+            document.append("email", request.email());
+        return document;
+    }
+
+    private static Document toDocument(EmployeeResponseDto response) {
+        Document document = new Document("id", response.id())
+                .append("firstName", response.firstName())
+                .append("lastName", response.lastName())
+                .append("email", response.email());
+        if (response.version() != null)
+            document.append("version", response.version());
+        if (response.lastModified() != null)
+            document.append("lastModified", Date.from(response.lastModified()));
+        return document;
+    }
+
+    private static EmployeeIdempotencyRecordDto toRecord(Document document) {
+        Document request = document.get("request", Document.class);
+        Document response = document.get("response", Document.class);
+        return EmployeeIdempotencyRecordDto.builder()
+                .key(document.getString("_id"))
+                .request(EmployeeRequestDto.builder()
+                        .firstName(request.getString("firstName"))
+                        .lastName(request.getString("lastName"))
+                        .email(request.getString("email"))
+                        .build())
+                .response(response == null ? null : toResponse(response))
+                .build();
+    }
+
+    private static EmployeeResponseDto toResponse(Document document) {
+        Number version = document.get("version", Number.class);
+        Date lastModified = document.getDate("lastModified");
+        return EmployeeResponseDto.builder()
+                .id(document.getString("id"))
+                .firstName(document.getString("firstName"))
+                .lastName(document.getString("lastName"))
+                .email(document.getString("email"))
+                .version(version == null ? null : version.longValue())
+                .lastModified(lastModified == null ? null : lastModified.toInstant())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.model.dto.EmployeeOutboxEventDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Access to the {@code employee_outbox} collection holding the employee events not published yet, and to the
+ * {@code employee_outbox_lease} collection holding the lease on relaying them.
+ */
+public interface EmployeeOutboxRepository {
+    /**
+     * Creates the index the events of given employees are read with, and the lease document when it is missing.
+     */
+    Mono<Void> createIndexes();
+
+    /**
+     * Takes the lease on relaying the outbox, or extends it when {@code owner} holds it already, for
+     * {@code duration} from now as seen by the server.
+     *
+     * @return whether {@code owner} holds the lease, {@literal false} when another owner holds it unexpired
+     */
+    Mono<Boolean> tryLease(String owner, Duration duration);
+
+    /**
+     * Lets the lease expire now, when {@code owner} holds it.
+     */
+    Mono<Void> releaseLease(String owner);
+
+    /**
+     * Inserts the event under a new ID, in the transaction of the subscriber when there is one.
+     */
+    Mono<Void> insert(EmployeeOutboxEventDto event);
+
+    /**
+     * Inserts the events under new IDs, in the transaction of the subscriber when there is one.
+     */
+    Mono<Void> insertAll(List<EmployeeOutboxEventDto> events);
+
+    /**
+     * Reads the oldest events, in the order of their IDs. IDs generated by different nodes only order roughly by
+     * time, so this is not the order the events of an employee were written in.
+     */
+    Flux<EmployeeOutboxEventDto> findOldest(int limit);
+
+    /**
+     * Reads every event of the given employees, ordered by employee then by the version each event left the employee
+     * at.
+     */
+    Flux<EmployeeOutboxEventDto> findAllByEmployeeId(Collection<String> employeeIds);
+
+    Mono<Void> deleteAllById(Collection<String> ids);
+}
@@ -0,0 +1,145 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.model.dto.EmployeeOutboxEventDto;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.model.Filters;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public class EmployeeOutboxRepositoryImpl implements EmployeeOutboxRepository {
+    private static final String OUTBOX_COLLECTION = "employee_outbox";
+    private static final String LEASE_COLLECTION = "employee_outbox_lease";
+    private static final String RELAY_LEASE_ID = "relay";
+    // the events the relay reads must include every event committed before, which a lagging secondary may not have
+    private static final ReadPreference PRIMARY = ReadPreference.primary();
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public EmployeeOutboxRepositoryImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Mono<Void> createIndexes() {
+        return mongoTemplate.indexOps(OUTBOX_COLLECTION).ensureIndex(new Index()
+                        .named("employeeId_version")
+                        .on("employeeId", Sort.Direction.ASC)
+                        .on("version", Sort.Direction.ASC))
+                .then(mongoTemplate.upsert(Query.query(Criteria.where("_id").is(RELAY_LEASE_ID)),
+                        new Update().setOnInsert("expiresAt", new Date(0)), LEASE_COLLECTION))
+                // another node created it at the same time
+                .onErrorResume(DuplicateKeyException.class, ex -> Mono.empty())
+                .then();
+    }
+
+    @Override
+    public Mono<Boolean> tryLease(String owner, Duration duration) {
+        Assert.notNull(owner, "Lease owner must not be null.");
+        // the lease is timed by the server clock, so nodes whose clocks drift apart still agree on when it expires
+        Bson filter = Filters.and(Filters.eq("_id", RELAY_LEASE_ID), Filters.or(Filters.eq("owner", owner),
+                Filters.expr(new Document("$lte", List.of("$expiresAt", "$$NOW")))));
+        List<Bson> update = List.of(new Document("$set", new Document("owner", owner)
+                .append("expiresAt", new Document("$add", List.of("$$NOW", duration.toMillis())))));
+        return mongoTemplate.getCollection(LEASE_COLLECTION)
+                .flatMap(collection -> Mono.from(collection.updateOne(filter, update)))
+                .map(result -> result.getMatchedCount() > 0);
+    }
+
+    @Override
+    public Mono<Void> releaseLease(String owner) {
+        Assert.notNull(owner, "Lease owner must not be null.");
+        Query query = Query.query(Criteria.where("_id").is(RELAY_LEASE_ID).and("owner").is(owner));
+        return mongoTemplate.updateFirst(query, Update.update("expiresAt", new Date(0)), LEASE_COLLECTION).then();
+    }
+
+    @Override
+    public Mono<Void> insert(EmployeeOutboxEventDto event) {
+        Assert.notNull(event, "Outbox event must not be null.");
+        return mongoTemplate.insert(toDocument(event), OUTBOX_COLLECTION).then();
+    }
+
+    @Override
+    public Mono<Void> insertAll(List<EmployeeOutboxEventDto> events) {
+        Assert.notEmpty(events, "Outbox events must not be empty.");
+        List<Document> documents = new ArrayList<>(events.size());
+        for (EmployeeOutboxEventDto event : events)
+            documents.add(toDocument(event));
+        return mongoTemplate.insert(documents, OUTBOX_COLLECTION).then();
+    }
+
+    @Override
+    public Flux<EmployeeOutboxEventDto> findOldest(int limit) {
+        Query query = new Query().with(Sort.by("_id")).limit(limit).withReadPreference(PRIMARY);
+        return mongoTemplate.find(query, Document.class, OUTBOX_COLLECTION)
+                .map(EmployeeOutboxRepositoryImpl::toEvent);
+    }
+
+    @Override
+    public Flux<EmployeeOutboxEventDto> findAllByEmployeeId(Collection<String> employeeIds) {
+        Assert.notEmpty(employeeIds, "Employee IDs must not be empty.");
+        Query query = Query.query(Criteria.where("employeeId").in(employeeIds))
+                .with(Sort.by("employeeId", "version", "_id"))
+                .withReadPreference(PRIMARY);
+        return mongoTemplate.find(query, Document.class, OUTBOX_COLLECTION)
+                .map(EmployeeOutboxRepositoryImpl::toEvent);
+    }
+
+    @Override
+    public Mono<Void> deleteAllById(Collection<String> ids) {
+        Assert.notEmpty(ids, "Outbox event IDs must not be empty.");
+        List<ObjectId> objectIds = new ArrayList<>(ids.size());
+        for (String id : ids)
+            objectIds.add(new ObjectId(id));
+        return mongoTemplate.remove(Query.query(Criteria.where("_id").in(objectIds)), OUTBOX_COLLECTION).then();
+    }
+
+    private static Document toDocument(EmployeeOutboxEventDto event) {
+        Document document = new Document("_id", new ObjectId())
+                .append("employeeId", event.employeeId())
+                .append("type", event.type().name())
+                .append("timestamp", Date.from(event.timestamp()));
+        if (event.version() != null)
+            document.append("version", event.version());
+        if (event.firstName() != null)
+            document.append("firstName", event.firstName());
+        if (event.lastName() != null)
+            document.append("lastName", event.lastName());
+        if (event.email() != null)
+            document.append("email", event.email());
+        return document;
+    }
+
+    private static EmployeeOutboxEventDto toEvent(Document document) {
+        Number version = document.get("version", Number.class);
+        Date timestamp = document.getDate("timestamp");
+        return EmployeeOutboxEventDto.builder()
+                .id(document.getObjectId("_id").toHexString())
+                .employeeId(document.getString("employeeId"))
+                .type(EmployeeOutboxEventDto.Type.valueOf(document.getString("type")))
+                .version(version == null ? null : version.longValue())
+                .firstName(document.getString("firstName"))
+                .lastName(document.getString("lastName"))
+                .email(document.getString("email"))
+                .timestamp(timestamp == null ? null : timestamp.toInstant())
+                .build();
+    }
+}
@@ -3,5 +3,5 @@ package com.employeemanagement.repository;
 import com.employeemanagement.document.Employee;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 
-public interface EmployeeRepository extends ReactiveMongoRepository<Employee, String> {
+public interface EmployeeRepository extends ReactiveMongoRepository<Employee, String>, EmployeeRepositoryCustom {
 }
@@ -0,0 +1,77 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.document.Employee;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Employee operations written against the template. Reads return {@link EmployeeResponseDto}s converted straight
+ * from the fetched documents, without going through the {@link Employee} entity.
+ */
+public interface EmployeeRepositoryCustom {
+    Flux<EmployeeResponseDto> streamAll(int batchSize);
+
+    /**
+     * Inserts the employees with a single unordered {@code bulkWrite}.
+     *
+     * @return the write errors keyed by the position of the failed employee in the batch, empty when all succeeded;
+     * a failure of the batch as a whole is signalled as an error instead
+     */
+    Mono<Map<Integer, String>> bulkInsert(List<Employee> employees);
+
+    /**
+     * Sets the non-blank fields of {@code changes} on the employee in a single {@code findAndModify}.
+     *
+     * @param expectedVersions versions one of which the employee must still be at, {@literal null} to update whatever
+     *                         the version
+     * @return the updated employee, empty when no employee matched the ID and versions
+     */
+    Mono<Employee> findAndModify(String id, List<Long> expectedVersions, Employee changes);
+
+    /**
+     * Reads the employee from the primary, so it is at least at the version of the last change seen on the change
+     * stream and can be cached.
+     */
+    Mono<EmployeeResponseDto> readById(String id);
+
+    /**
+     * Reads the employees with the given IDs in a single {@code $in} query on the primary. IDs no employee was
+     * found for are left out, and the employees come in no particular order.
+     */
+    Flux<EmployeeResponseDto> readAllById(Collection<String> ids);
+
+    Mono<EmployeeResponseDto> readByEmail(String email);
+
+    /**
+     * Reads a page of employees ordered by ID at the query read preference, so it may be served by a lagging
+     * secondary.
+     *
+     * @param afterId ID the page starts after, {@literal null} for the first page
+     */
+    Flux<EmployeeResponseDto> readPage(String afterId, int limit);
+
+    /**
+     * Deletes the employee in a single {@code findAndRemove}.
+     *
+     * @return the version and last modification date the employee was at, empty when no employee had the ID
+     */
+    Mono<Employee> findAndDeleteById(String id);
+
+    /**
+     * Reads only the version and last modification date of the employee, from the primary.
+     */
+    Mono<Employee> findVersionById(String id);
+
+    /**
+     * Finds the employees whose names start with the given prefixes, ordered by last then first name. The prefixes
+     * are matched as index ranges, so the scan is bounded by the {@code lastName_firstName} index.
+     *
+     * @param firstNamePrefix prefix of the first name, {@literal null} to match any first name
+     */
+    Flux<EmployeeResponseDto> readByNamePrefix(String lastNamePrefix, String firstNamePrefix, int limit);
+}
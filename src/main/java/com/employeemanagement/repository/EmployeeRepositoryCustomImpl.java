@@ -0,0 +1,183 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.config.EmployeeMongoProperties;
+import com.employeemanagement.document.Employee;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.model.mapper.EmployeeResponseDtoReadConverter;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.ReadPreference;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import com.mongodb.bulk.BulkWriteError;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+    private static final String EMPLOYEES_COLLECTION = "employees";
+    private static final EmployeeResponseDtoReadConverter READ_CONVERTER = new EmployeeResponseDtoReadConverter();
+    // reads by ID fill the cache and answer conditional requests, where a version read from a lagging secondary
+    // would outlive the change stream invalidation that evicted it or match an ETag that is already stale
+    private static final ReadPreference PRIMARY = ReadPreference.primary();
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ReadPreference queryReadPreference;
+
+    public EmployeeRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate, EmployeeMongoProperties mongoProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryReadPreference = mongoProperties.queryReadPreference();
+    }
+
+    @Override
+    public Flux<EmployeeResponseDto> streamAll(int batchSize) {
+        Assert.isTrue(batchSize > 0, "Cursor batch size must be greater than zero.");
+        Query query = new Query().cursorBatchSize(batchSize);
+        query.fields().include("firstName", "lastName", "email", "version", "lastModified");
+        return readAll(query);
+    }
+
+    @Override
+    public Mono<Map<Integer, String>> bulkInsert(List<Employee> employees) {
+        Assert.notEmpty(employees, "Employees to insert must not be empty.");
+        return mongoTemplate.bulkOps(BulkMode.UNORDERED, Employee.class)
+                .insert(employees)
+                .execute()
+                .map(result -> Map.<Integer, String>of())
+                .onErrorResume(EmployeeRepositoryCustomImpl::hasOnlyWriteErrors,
+                        ex -> Mono.just(writeErrors((MongoBulkWriteException) ex.getCause())));
+    }
+
+    @Override
+    public Mono<Employee> findAndModify(String id, List<Long> expectedVersions, Employee changes) {
+        Assert.notNull(id, "Employee ID must not be null.");
+        Assert.notNull(changes, "Employee changes must not be null.");
+        Query query = Query.query(Criteria.where("id").is(id));
+        if (expectedVersions != null)
+            query.addCriteria(Criteria.where("version").in(expectedVersions));
+        // auditing does not apply to updates, so the modification date is stamped here
+        Update update = new Update().inc("version", 1).currentDate("lastModified");
+        setIfNotBlank(update, "firstName", changes.getFirstName());
+        setIfNotBlank(update, "lastName", changes.getLastName());
+        setIfNotBlank(update, "email", changes.getEmail());
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Employee.class);
+    }
+
+    @Override
+    public Mono<EmployeeResponseDto> readById(String id) {
+        Assert.notNull(id, "Employee ID must not be null.");
+        Query query = Query.query(Criteria.where("_id").is(toObjectId(id))).withReadPreference(PRIMARY);
+        return readOne(query);
+    }
+
+    @Override
+    public Flux<EmployeeResponseDto> readAllById(Collection<String> ids) {
+        Assert.notEmpty(ids, "Employee IDs must not be empty.");
+        List<Object> objectIds = new ArrayList<>(ids.size());
+        for (String id : ids)
+            objectIds.add(toObjectId(id));
+        return readAll(Query.query(Criteria.where("_id").in(objectIds)).withReadPreference(PRIMARY));
+    }
+
+    @Override
+    public Mono<EmployeeResponseDto> readByEmail(String email) {
+        Assert.notNull(email, "Employee email must not be null.");
+        return readOne(Query.query(Criteria.where("email").is(email)));
+    }
+
+    @Override
+    public Flux<EmployeeResponseDto> readPage(String afterId, int limit) {
+        Query query = new Query()
+                .with(Sort.by("_id"))
+                .limit(limit)
+                .withReadPreference(queryReadPreference);
+        if (afterId != null)
+            query.addCriteria(Criteria.where("_id").gt(new ObjectId(afterId)));
+        return readAll(query);
+    }
+
+    @Override
+    public Mono<Employee> findAndDeleteById(String id) {
+        Assert.notNull(id, "Employee ID must not be null.");
+        Query query = Query.query(Criteria.where("id").is(id));
+        query.fields().include("version", "lastModified");
+        return mongoTemplate.findAndRemove(query, Employee.class);
+    }
+
+    @Override
+    public Mono<Employee> findVersionById(String id) {
+        Assert.notNull(id, "Employee ID must not be null.");
+        Query query = Query.query(Criteria.where("id").is(id)).withReadPreference(PRIMARY);
+        query.fields().include("version", "lastModified");
+        return mongoTemplate.findOne(query, Employee.class);
+    }
+
+    @Override
+    public Flux<EmployeeResponseDto> readByNamePrefix(String lastNamePrefix, String firstNamePrefix, int limit) {
+        Assert.hasText(lastNamePrefix, "Last name prefix must not be blank.");
+        Query query = new Query(prefixRange("lastName", lastNamePrefix))
+                .with(Sort.by("lastName", "firstName"))
+                .limit(limit);
+        if (firstNamePrefix != null && !firstNamePrefix.isEmpty())
+            query.addCriteria(prefixRange("firstName", firstNamePrefix));
+        return readAll(query);
+    }
+
+    // raw documents converted by hand: going through the mapping converter, even with this converter registered,
+    // allocates several times more per employee
+    private Mono<EmployeeResponseDto> readOne(Query query) {
+        return mongoTemplate.findOne(query, Document.class, EMPLOYEES_COLLECTION).map(READ_CONVERTER::convert);
+    }
+
+    private Flux<EmployeeResponseDto> readAll(Query query) {
+        return mongoTemplate.find(query, Document.class, EMPLOYEES_COLLECTION).map(READ_CONVERTER::convert);
+    }
+
+    // queries on the raw collection skip the mapping of hex strings to ObjectIds, so it is done here
+    private static Object toObjectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    // a range rather than an anchored regex, so Mongo always derives tight index bounds from it
+    private static Criteria prefixRange(String key, String prefix) {
+        int last = prefix.codePointBefore(prefix.length());
+        String upperBound = prefix.substring(0, prefix.length() - Character.charCount(last))
+                + Character.toString(last + 1);
+        return Criteria.where(key).gte(prefix).lt(upperBound);
+    }
+
+    // same rule as the Employee setters: null or blank values leave the field untouched
+    private static void setIfNotBlank(Update update, String key, String value) {
+        if (value != null && !value.trim().isBlank())
+            update.set(key, value);
+    }
+
+    // only errors of single employees are results; a failure of the batch as a whole, transient ones included,
+    // is left to the caller, which may retry it
+    private static boolean hasOnlyWriteErrors(Throwable ex) {
+        return ex instanceof DataAccessException && ex.getCause() instanceof MongoBulkWriteException bulkException
+                && !bulkException.getWriteErrors().isEmpty() && bulkException.getWriteConcernError() == null
+                && !bulkException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+    }
+
+    private static Map<Integer, String> writeErrors(MongoBulkWriteException bulkException) {
+        Map<Integer, String> errors = new HashMap<>();
+        for (BulkWriteError error : bulkException.getWriteErrors())
+            errors.put(error.getIndex(), error.getMessage());
+        return errors;
+    }
+}
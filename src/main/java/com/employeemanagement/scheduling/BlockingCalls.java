@@ -0,0 +1,56 @@
+package com.employeemanagement.scheduling;
+
+import com.employeemanagement.config.EmployeeBlockingProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Runs blocking calls to other systems, such as directory lookups or JDBC queries, on a dedicated scheduler so they
+ * never hold an event loop. Depending on {@code employee-management.blocking.mode} the scheduler runs them on virtual
+ * threads or on platform threads, at most {@code max-concurrency} at a time either way. Its executors are published
+ * as {@code executor.*} meters like the ones of the other schedulers.
+ */
+@Component
+public class BlockingCalls {
+    public static final String SCHEDULER_NAME = "employee-blocking";
+    private static final int THREAD_TTL_SECONDS = 60;
+
+    private final Scheduler scheduler;
+
+    public BlockingCalls(EmployeeBlockingProperties properties) {
+        this.scheduler = switch (properties.mode()) {
+            // the bounded elastic scheduler caps and queues the calls, the threads it creates are virtual
+            case VIRTUAL_THREADS -> Schedulers.newBoundedElastic(properties.maxConcurrency(),
+                    properties.maxQueued(), Thread.ofVirtual().name(STR."\{SCHEDULER_NAME}-", 1).factory(),
+                    THREAD_TTL_SECONDS);
+            case BOUNDED_ELASTIC -> Schedulers.newBoundedElastic(properties.maxConcurrency(),
+                    properties.maxQueued(), SCHEDULER_NAME, THREAD_TTL_SECONDS, true);
+        };
+    }
+
+    /**
+     * Calls {@code call} on subscription, on the blocking scheduler. A call over the queue cap fails with a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     *
+     * @return the result of the call, empty when it returned {@literal null}
+     */
+    public <T> Mono<T> call(Callable<T> call) {
+        Assert.notNull(call, "Blocking call must not be null.");
+        return Mono.fromCallable(call).subscribeOn(scheduler);
+    }
+
+    public Scheduler scheduler() {
+        return scheduler;
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,117 @@
+package com.employeemanagement.search;
+
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * In-memory prefix index over the first name, last name and email of every employee. Each of the three terms is
+ * kept lower-cased in a sorted map, so a prefix lookup is a range walk that stops after the requested number of
+ * employees.
+ * <p>
+ * While the index is being warmed from a snapshot of the collection, removed employees are remembered, so a snapshot
+ * read before the removal cannot put them back.
+ */
+@Component
+public class EmployeeSuggestIndex {
+    // sorts right after every term it is appended to, so "term + separator + id" keeps terms in order
+    private static final char SEPARATOR = '\u0000';
+
+    private final NavigableMap<String, EmployeeResponseDto> terms = new ConcurrentSkipListMap<>();
+    private final Map<String, EmployeeResponseDto> employees = new ConcurrentHashMap<>();
+    // IDs removed during the warm-up, null outside of it; IDs are never reused, so no version of them may come back
+    private volatile Set<String> tombstones;
+
+    /**
+     * Indexes the employee, replacing the terms of the previous version unless the indexed one is newer.
+     */
+    public void put(EmployeeResponseDto responseDto) {
+        Assert.notNull(responseDto, "Employee to index must not be null.");
+        Assert.notNull(responseDto.id(), "Employee ID must not be null.");
+        employees.compute(responseDto.id(), (id, indexed) -> {
+            Set<String> removed = tombstones;
+            if (removed != null && removed.contains(id))
+                return indexed;
+            if (indexed != null && isNewer(indexed, responseDto))
+                return indexed;
+            if (indexed != null)
+                forEachTerm(indexed, terms::remove);
+            forEachTerm(responseDto, key -> terms.put(key, responseDto));
+            return responseDto;
+        });
+    }
+
+    public void remove(String id) {
+        // the tombstone is set under the same lock as put, so a put racing with the removal cannot slip in after it
+        employees.compute(id, (key, indexed) -> {
+            Set<String> removed = tombstones;
+            if (removed != null)
+                removed.add(key);
+            if (indexed != null)
+                forEachTerm(indexed, terms::remove);
+            return null;
+        });
+    }
+
+    /**
+     * Empties the index ahead of warming it again, and remembers the employees removed until
+     * {@link #warmedUp()}.
+     */
+    public void warmingUp() {
+        tombstones = ConcurrentHashMap.newKeySet();
+        employees.clear();
+        terms.clear();
+    }
+
+    public void warmedUp() {
+        tombstones = null;
+    }
+
+    public EmployeeResponseDto get(String id) {
+        return employees.get(id);
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    /**
+     * @return up to {@code limit} distinct employees with a name or email starting with {@code query}, ignoring case
+     */
+    public List<EmployeeResponseDto> suggest(String query, int limit) {
+        Assert.hasText(query, "Suggest query must not be blank.");
+        String prefix = normalize(query);
+        Map<String, EmployeeResponseDto> matches = new LinkedHashMap<>();
+        for (EmployeeResponseDto match : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            matches.putIfAbsent(match.id(), match);
+            if (matches.size() == limit)
+                break;
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    private static boolean isNewer(EmployeeResponseDto indexed, EmployeeResponseDto candidate) {
+        return indexed.version() != null && (candidate.version() == null || indexed.version() > candidate.version());
+    }
+
+    private static void forEachTerm(EmployeeResponseDto responseDto, Consumer<String> action) {
+        for (String term : new String[]{responseDto.firstName(), responseDto.lastName(), responseDto.email()})
+            if (term != null && !term.isBlank())
+                action.accept(normalize(term) + SEPARATOR + responseDto.id());
+    }
+
+    private static String normalize(String term) {
+        return term.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,94 @@
+package com.employeemanagement.search;
+
+import com.employeemanagement.config.EmployeeExportProperties;
+import com.employeemanagement.event.EmployeeChangeBus;
+import com.employeemanagement.event.EmployeeChangeEvent;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.model.mapper.EmployeeMapper;
+import com.employeemanagement.repository.EmployeeRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Warms the {@link EmployeeSuggestIndex} from the {@code employees} collection at startup and applies the changes
+ * seen on the {@link EmployeeChangeBus}, so writes made by other nodes show up in the suggestions too.
+ */
+@Component
+public class EmployeeSuggestIndexLoader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeSuggestIndexLoader.class);
+
+    private final EmployeeSuggestIndex suggestIndex;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EmployeeExportProperties exportProperties;
+    private final EmployeeChangeBus changeBus;
+    private Disposable changes;
+
+    public EmployeeSuggestIndexLoader(EmployeeSuggestIndex suggestIndex, EmployeeRepository employeeRepository,
+                                      EmployeeMapper employeeMapper, EmployeeExportProperties exportProperties,
+                                      EmployeeChangeBus changeBus) {
+        this.suggestIndex = suggestIndex;
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.exportProperties = exportProperties;
+        this.changeBus = changeBus;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        // the warm-up runs as a reset ahead of the changes, so a change seen while it reads the collection is
+        // applied after it instead of being overwritten by an older snapshot; changes wait in the buffer meanwhile.
+        // Local deletes skip the bus, so the index itself keeps them from being undone by the snapshot
+        changes = changeBus.events()
+                .onBackpressureBuffer()
+                .startWith(EmployeeChangeEvent.reset())
+                .concatMap(this::apply)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (changes != null)
+            changes.dispose();
+    }
+
+    private Mono<Void> warmUp() {
+        return employeeRepository.streamAll(exportProperties.cursorBatchSize())
+                .doOnNext(suggestIndex::put)
+                .then()
+                .doFinally(signal -> suggestIndex.warmedUp())
+                .doOnSuccess(done -> LOGGER.info("Employee suggest index warmed with {} employees", suggestIndex.size()))
+                .onErrorResume(ex -> {
+                    LOGGER.error("Could not warm the employee suggest index", ex);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> apply(EmployeeChangeEvent event) {
+        return switch (event.type()) {
+            case RESET -> Mono.fromRunnable(suggestIndex::warmingUp).then(warmUp());
+            case DELETED -> Mono.fromRunnable(() -> suggestIndex.remove(event.employeeId()));
+            case CHANGED -> isIndexedAtVersion(event) ? Mono.empty() : employeeRepository.findById(event.employeeId())
+                    .map(employeeMapper::toDto)
+                    .doOnNext(suggestIndex::put)
+                    .then()
+                    .onErrorResume(ex -> {
+                        LOGGER.warn("Could not refresh employee {} in the suggest index", event.employeeId(), ex);
+                        return Mono.empty();
+                    });
+        };
+    }
+
+    // writes made through this node are indexed already
+    private boolean isIndexedAtVersion(EmployeeChangeEvent event) {
+        EmployeeResponseDto indexed = suggestIndex.get(event.employeeId());
+        return indexed != null && indexed.version() != null && event.version() != null
+                && indexed.version() >= event.version();
+    }
+}
@@ -0,0 +1,105 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.config.EmployeeBatchLoaderProperties;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.throttling.ConcurrencyLimiter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Loads employees by ID, merging the loads requested within {@code employee-management.batch-loader.window} of each
+ * other into a single {@code $in} query that holds a single permit of the {@link ConcurrencyLimiter}. The number of
+ * IDs per query is published as the {@code employee.batch-loader.batch-size} summary.
+ */
+@Component
+public class EmployeeBatchLoader {
+    private final EmployeeRepository employeeRepository;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final DistributionSummary batchSizes;
+    // serialized by Flux.create, so every event-loop thread can emit at once without contending on the sink
+    private final FluxSink<Load> loads;
+    private final Disposable subscription;
+
+    public EmployeeBatchLoader(EmployeeBatchLoaderProperties properties, EmployeeRepository employeeRepository,
+                               ConcurrencyLimiter concurrencyLimiter, MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.batchSizes = DistributionSummary.builder("employee.batch-loader.batch-size")
+                .description("Employee IDs read by a single query of the batch loader")
+                .register(meterRegistry);
+        if (properties.enabled()) {
+            AtomicReference<FluxSink<Load>> sink = new AtomicReference<>();
+            this.subscription = Flux.create(sink::set)
+                    .bufferTimeout(properties.maxBatchSize(), properties.window())
+                    .flatMap(this::loadBatch)
+                    .subscribe();
+            this.loads = sink.get();
+        } else {
+            this.loads = null;
+            this.subscription = null;
+        }
+    }
+
+    /**
+     * @return the employee, empty when it does not exist
+     */
+    public Mono<EmployeeResponseDto> load(String id) {
+        Assert.notNull(id, "Employee ID must not be null.");
+        // once stopped, loads would never be batched again
+        if (loads == null || loads.isCancelled())
+            return concurrencyLimiter.limit(() -> employeeRepository.readById(id));
+        return Mono.defer(() -> {
+            Load load = new Load(id, Sinks.one());
+            loads.next(load);
+            return load.result().asMono();
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null)
+            subscription.dispose();
+    }
+
+    private Mono<Void> loadBatch(List<Load> batch) {
+        Set<String> ids = new HashSet<>();
+        for (Load load : batch)
+            ids.add(load.id());
+        batchSizes.record(ids.size());
+        return concurrencyLimiter.limit(() -> employeeRepository.readAllById(ids)
+                        .collectMap(EmployeeResponseDto::id))
+                .doOnNext(found -> complete(batch, found))
+                // every load of the batch fails alike, the stage itself must keep running for the next batches
+                .doOnError(ex -> batch.forEach(load -> load.result().tryEmitError(ex)))
+                .onErrorComplete()
+                .then();
+    }
+
+    private static void complete(List<Load> batch, Map<String, EmployeeResponseDto> found) {
+        for (Load load : batch) {
+            EmployeeResponseDto employee = found.get(load.id());
+            if (employee == null)
+                load.result().tryEmitEmpty();
+            else
+                load.result().tryEmitValue(employee);
+        }
+    }
+
+    private record Load(String id, Sinks.One<EmployeeResponseDto> result) {
+    }
+}
@@ -1,19 +1,67 @@
 package com.employeemanagement.service;
 
+import com.employeemanagement.model.dto.BulkItemResponseDto;
+import com.employeemanagement.model.dto.EmployeeAuditEntryDto;
 import com.employeemanagement.model.dto.EmployeeRequestDto;
 import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.model.dto.EmployeeVersionDto;
+import com.employeemanagement.model.dto.MultiGetResponseDto;
 import org.springframework.data.domain.Page;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface EmployeeService {
     Mono<EmployeeResponseDto> createEmployee(EmployeeRequestDto requestDto);
 
-    Mono<EmployeeResponseDto> updateEmployee(String id, EmployeeRequestDto requestDto);
+    /**
+     * Creates the employee once per idempotency key, answering later requests with the same key with the first
+     * response. A {@literal null} key creates the employee every time.
+     */
+    Mono<EmployeeResponseDto> createEmployee(EmployeeRequestDto requestDto, String idempotencyKey);
+
+    Flux<BulkItemResponseDto> createEmployees(Flux<EmployeeRequestDto> requestDtos);
+
+    /**
+     * Updates the employee, provided it is at one of {@code expectedVersions}, or at any version when they are
+     * {@literal null}.
+     */
+    Mono<EmployeeResponseDto> updateEmployee(String id, List<Long> expectedVersions, EmployeeRequestDto requestDto);
 
     Mono<EmployeeResponseDto> getEmployeeById(String id);
 
-    Flux<EmployeeResponseDto> listEmployees();
+    /**
+     * Reads the employees with the given IDs, from the cache when they are there, otherwise all with a single query.
+     * An ID requested more than once is answered once.
+     *
+     * @return the employees found and the IDs no employee was found for, both in the order the IDs were requested
+     */
+    Mono<MultiGetResponseDto> getEmployeesByIds(List<String> ids);
+
+    /**
+     * Reads the version stamp of an employee, from the cache when it is there, otherwise without loading the whole
+     * employee from Mongo.
+     *
+     * @return the version stamp, empty when the employee does not exist
+     */
+    Mono<EmployeeVersionDto> getEmployeeVersion(String id);
+
+    Mono<EmployeeResponseDto> getEmployeeByEmail(String email);
+
+    Flux<EmployeeResponseDto> searchEmployeesByName(String lastNamePrefix, String firstNamePrefix, int limit);
+
+    Flux<EmployeeResponseDto> suggestEmployees(String query, int limit);
+
+    Flux<EmployeeResponseDto> listEmployees(String afterId, int limit);
+
+    Flux<EmployeeResponseDto> streamEmployees();
 
     Mono<Void> deleteEmployeeById(String id);
+
+    /**
+     * Reads the changes made to an employee, most recent first. Changes are written in the background, so the last
+     * ones may take up to the audit flush interval to show up.
+     */
+    Flux<EmployeeAuditEntryDto> getEmployeeHistory(String id, int limit);
 }
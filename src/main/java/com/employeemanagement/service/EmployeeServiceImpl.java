@@ -1,58 +1,322 @@
 package com.employeemanagement.service;
 
+import com.employeemanagement.audit.EmployeeAuditQueue;
+import com.employeemanagement.cache.EmployeeCache;
+import com.employeemanagement.config.EmployeeBulkProperties;
+import com.employeemanagement.config.EmployeeExportProperties;
+import com.employeemanagement.config.EmployeeIdempotencyProperties;
+import com.employeemanagement.document.Employee;
+import com.employeemanagement.exception.DuplicateEmployeeException;
+import com.employeemanagement.exception.EmployeeNotFoundException;
+import com.employeemanagement.exception.EmployeeVersionConflictException;
+import com.employeemanagement.exception.InvalidRequestException;
+import com.employeemanagement.idempotency.EmployeeIdempotencyStore;
+import com.employeemanagement.metrics.EmployeeServiceMetrics;
+import com.employeemanagement.model.dto.BulkItemResponseDto;
+import com.employeemanagement.model.dto.EmployeeAuditEntryDto;
 import com.employeemanagement.model.dto.EmployeeRequestDto;
 import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.model.dto.EmployeeVersionDto;
+import com.employeemanagement.model.dto.MultiGetResponseDto;
 import com.employeemanagement.model.mapper.EmployeeMapper;
+import com.employeemanagement.outbox.EmployeeOutbox;
+import com.employeemanagement.repository.EmployeeAuditRepository;
 import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.search.EmployeeSuggestIndex;
+import com.employeemanagement.throttling.ConcurrencyLimiter;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.employeemanagement.utils.EmployeeManagementUtils.MAX_IDEMPOTENCY_KEY_LENGTH;
+import static com.employeemanagement.utils.EmployeeManagementUtils.MAX_MULTI_GET_IDS;
+import static com.employeemanagement.utils.EmployeeManagementUtils.MAX_PAGE_LIMIT;
+import static com.employeemanagement.utils.EmployeeManagementUtils.MAX_SUGGEST_LIMIT;
 
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
+    private final EmployeeExportProperties exportProperties;
+    private final EmployeeBulkProperties bulkProperties;
+    private final EmployeeCache employeeCache;
+    private final EmployeeSuggestIndex suggestIndex;
+    private final EmployeeServiceMetrics metrics;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final EmployeeBatchLoader batchLoader;
+    private final EmployeeAuditQueue auditQueue;
+    private final EmployeeAuditRepository auditRepository;
+    private final EmployeeOutbox outbox;
+    private final EmployeeIdempotencyStore idempotencyStore;
+    private final boolean idempotencyEnabled;
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                               EmployeeExportProperties exportProperties, EmployeeBulkProperties bulkProperties,
+                               EmployeeCache employeeCache, EmployeeSuggestIndex suggestIndex,
+                               EmployeeServiceMetrics metrics, ConcurrencyLimiter concurrencyLimiter,
+                               EmployeeBatchLoader batchLoader, EmployeeAuditQueue auditQueue,
+                               EmployeeAuditRepository auditRepository, EmployeeOutbox outbox,
+                               EmployeeIdempotencyStore idempotencyStore,
+                               EmployeeIdempotencyProperties idempotencyProperties) {
         this.employeeRepository = employeeRepository;
         this.employeeMapper = employeeMapper;
+        this.exportProperties = exportProperties;
+        this.bulkProperties = bulkProperties;
+        this.employeeCache = employeeCache;
+        this.suggestIndex = suggestIndex;
+        this.metrics = metrics;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.batchLoader = batchLoader;
+        this.auditQueue = auditQueue;
+        this.auditRepository = auditRepository;
+        this.outbox = outbox;
+        this.idempotencyStore = idempotencyStore;
+        this.idempotencyEnabled = idempotencyProperties.enabled();
     }
 
     @Override
     public Mono<EmployeeResponseDto> createEmployee(EmployeeRequestDto requestDto) {
-        Assert.notNull(requestDto, "Dto request to create Employee must not be null.");
-        return employeeRepository.insert(employeeMapper.toDocument(requestDto)).map(employeeMapper::toDto);
+        return createEmployee(requestDto, null);
+    }
+
+    @Override
+    public Mono<EmployeeResponseDto> createEmployee(EmployeeRequestDto requestDto, String idempotencyKey) {
+        return metrics.timed("create", () -> {
+            Assert.notNull(requestDto, "Dto request to create Employee must not be null.");
+            if (idempotencyKey == null || !idempotencyEnabled)
+                return insert(requestDto);
+            if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)
+                return Mono.error(InvalidRequestException.INVALID_IDEMPOTENCY_KEY);
+            return idempotencyStore.execute(idempotencyKey, requestDto, () -> insert(requestDto));
+        });
+    }
+
+    private Mono<EmployeeResponseDto> insert(EmployeeRequestDto requestDto) {
+        return concurrencyLimiter.limit(() -> outbox.created(employeeRepository
+                        .insert(employeeMapper.toDocument(requestDto))
+                        .map(employeeMapper::toDto))
+                .doOnNext(this::written)
+                .doOnNext(auditQueue::created)
+                .onErrorMap(DuplicateKeyException.class, ex -> new DuplicateEmployeeException(requestDto.email())));
+    }
+
+    @Override
+    public Flux<BulkItemResponseDto> createEmployees(Flux<EmployeeRequestDto> requestDtos) {
+        return metrics.timedMany("bulk-create", () -> {
+            Assert.notNull(requestDtos, "Dto requests to create Employees must not be null.");
+            return concurrencyLimiter.limitMany(() -> requestDtos.index()
+                    .buffer(bulkProperties.batchSize())
+                    .concatMap(this::insertBatch));
+        });
+    }
+
+    private Flux<BulkItemResponseDto> insertBatch(List<Tuple2<Long, EmployeeRequestDto>> batch) {
+        // ids are assigned up front so every item can be reported, whatever the outcome of the others
+        List<Employee> employees = new ArrayList<>(batch.size());
+        for (Tuple2<Long, EmployeeRequestDto> item : batch)
+            employees.add(employeeMapper.toDocument(item.getT2(), new ObjectId().toHexString()));
+        return outbox.createdAll(employees, employeeRepository::bulkInsert)
+                // the batch failed as a whole once any retries were spent, so every employee in it failed
+                .onErrorResume(DataAccessException.class, ex -> Mono.just(allFailed(employees.size(), ex)))
+                .flatMapIterable(errors -> {
+                    List<BulkItemResponseDto> results = new ArrayList<>(batch.size());
+                    for (int i = 0; i < batch.size(); i++) {
+                        if (!errors.containsKey(i)) {
+                            EmployeeResponseDto responseDto = employeeMapper.toDto(employees.get(i));
+                            suggestIndex.put(responseDto);
+                            auditQueue.created(responseDto);
+                        }
+                        results.add(toBulkItem(batch.get(i).getT1(), employees.get(i).getId(), errors.get(i)));
+                    }
+                    return results;
+                });
+    }
+
+    private static Map<Integer, String> allFailed(int batchSize, DataAccessException ex) {
+        return IntStream.range(0, batchSize).boxed()
+                .collect(Collectors.toMap(index -> index, index -> ex.getMessage()));
+    }
+
+    private static BulkItemResponseDto toBulkItem(long index, String id, String error) {
+        return BulkItemResponseDto.builder()
+                .index(index)
+                .id(error == null ? id : null)
+                .error(error)
+                .build();
     }
 
     @Override
-    public Mono<EmployeeResponseDto> updateEmployee(String id, EmployeeRequestDto requestDto) {
-        Assert.notNull(id, "Employee ID must not be null.");
-        return employeeRepository.findById(id).flatMap(employee -> {
-                    employee.setFirstName(requestDto.firstName());
-                    employee.setLastName(requestDto.lastName());
-                    employee.setEmail(requestDto.email());
-                    return employeeRepository.save(employee);
-                })
-                .map(employeeMapper::toDto)
-                .switchIfEmpty(Mono.error(new RuntimeException(STR."Employee not found for ID \{id}")));
+    public Mono<EmployeeResponseDto> updateEmployee(String id, List<Long> expectedVersions,
+                                                     EmployeeRequestDto requestDto) {
+        return metrics.timed("update", () -> {
+            Assert.notNull(id, "Employee ID must not be null.");
+            return concurrencyLimiter.limit(() -> outbox.updated(employeeRepository
+                            .findAndModify(id, expectedVersions, employeeMapper.toDocument(requestDto))
+                            .map(employeeMapper::toDto))
+                    .doOnNext(this::written)
+                    .doOnNext(auditQueue::updated)
+                    .onErrorMap(DuplicateKeyException.class, ex -> new DuplicateEmployeeException(requestDto.email()))
+                    .switchIfEmpty(Mono.defer(() -> updateRejected(id, expectedVersions))));
+        });
+    }
+
+    private Mono<EmployeeResponseDto> updateRejected(String id, List<Long> expectedVersions) {
+        if (expectedVersions == null)
+            return Mono.error(EmployeeNotFoundException.BY_ID);
+        // only a failed conditional update pays for telling a stale version apart from a missing employee
+        return employeeRepository.existsById(id).flatMap(exists -> Mono.error(exists
+                ? new EmployeeVersionConflictException(id, expectedVersions)
+                : EmployeeNotFoundException.BY_ID));
     }
 
     @Override
     public Mono<EmployeeResponseDto> getEmployeeById(String id) {
-        Assert.notNull(id, "Employee ID must not be null.");
-        return employeeRepository.findById(id).map(employeeMapper::toDto)
-                .switchIfEmpty(Mono.error(new RuntimeException(STR."Employee not found for ID \{id}")));
+        return metrics.timed("get", () -> {
+            Assert.notNull(id, "Employee ID must not be null.");
+            // cache hits never reach Mongo, and concurrent misses are merged into one query by the batch loader
+            return employeeCache.get(id, batchLoader::load)
+                    .switchIfEmpty(Mono.error(EmployeeNotFoundException.BY_ID));
+        });
     }
 
     @Override
-    public Flux<EmployeeResponseDto> listEmployees() {
-        return employeeRepository.findAll().map(employeeMapper::toDto).switchIfEmpty(Flux.empty());
+    public Mono<MultiGetResponseDto> getEmployeesByIds(List<String> ids) {
+        return metrics.timed("multi-get", () -> {
+            if (ids == null || ids.isEmpty() || ids.size() > MAX_MULTI_GET_IDS)
+                return Mono.error(InvalidRequestException.INVALID_MULTI_GET_IDS);
+            Assert.noNullElements(ids, "Employee IDs must not be null.");
+            Set<String> requested = new LinkedHashSet<>(ids);
+            Map<String, EmployeeResponseDto> found = new HashMap<>();
+            List<String> uncached = new ArrayList<>();
+            for (String id : requested) {
+                EmployeeResponseDto cached = employeeCache.peek(id);
+                if (cached != null)
+                    found.put(id, cached);
+                else
+                    uncached.add(id);
+            }
+            if (uncached.isEmpty())
+                return Mono.just(toMultiGet(requested, found));
+            return concurrencyLimiter.limit(() -> employeeRepository.readAllById(uncached)
+                    .collect(() -> found, (employees, employee) -> employees.put(employee.id(), employee))
+                    .map(employees -> toMultiGet(requested, employees)));
+        });
+    }
+
+    private static MultiGetResponseDto toMultiGet(Set<String> requested, Map<String, EmployeeResponseDto> found) {
+        List<EmployeeResponseDto> employees = new ArrayList<>(found.size());
+        List<String> missing = new ArrayList<>(requested.size() - found.size());
+        for (String id : requested) {
+            EmployeeResponseDto employee = found.get(id);
+            if (employee == null)
+                missing.add(id);
+            else
+                employees.add(employee);
+        }
+        return MultiGetResponseDto.builder()
+                .employees(employees)
+                .missing(missing)
+                .build();
+    }
+
+    @Override
+    public Mono<EmployeeVersionDto> getEmployeeVersion(String id) {
+        return metrics.timed("get-version", () -> {
+            Assert.notNull(id, "Employee ID must not be null.");
+            EmployeeResponseDto cached = employeeCache.peek(id);
+            if (cached != null)
+                return Mono.just(new EmployeeVersionDto(cached.version(), cached.lastModified()));
+            return concurrencyLimiter.limit(() -> employeeRepository.findVersionById(id))
+                    .map(employee -> new EmployeeVersionDto(employee.getVersion(), employee.getLastModified()));
+        });
+    }
+
+    @Override
+    public Mono<EmployeeResponseDto> getEmployeeByEmail(String email) {
+        return metrics.timed("get-by-email", () -> {
+            Assert.hasText(email, "Employee email must not be blank.");
+            return concurrencyLimiter.limit(() -> employeeRepository.readByEmail(email))
+                    .switchIfEmpty(Mono.error(EmployeeNotFoundException.BY_EMAIL));
+        });
+    }
+
+    @Override
+    public Flux<EmployeeResponseDto> searchEmployeesByName(String lastNamePrefix, String firstNamePrefix, int limit) {
+        return metrics.timedMany("search", () -> {
+            Assert.hasText(lastNamePrefix, "Last name prefix must not be blank.");
+            if (limit <= 0 || limit > MAX_PAGE_LIMIT)
+                return Flux.error(InvalidRequestException.INVALID_PAGE_LIMIT);
+            return concurrencyLimiter.limitMany(() -> employeeRepository
+                    .readByNamePrefix(lastNamePrefix, firstNamePrefix, limit));
+        });
+    }
+
+    @Override
+    public Flux<EmployeeResponseDto> suggestEmployees(String query, int limit) {
+        return metrics.timedMany("suggest", () -> {
+            Assert.hasText(query, "Suggest query must not be blank.");
+            if (limit <= 0 || limit > MAX_SUGGEST_LIMIT)
+                return Flux.error(InvalidRequestException.INVALID_SUGGEST_LIMIT);
+            return Flux.fromIterable(suggestIndex.suggest(query, limit));
+        });
+    }
+
+    @Override
+    public Flux<EmployeeResponseDto> listEmployees(String afterId, int limit) {
+        return metrics.timedMany("list", () -> {
+            if (limit <= 0 || limit > MAX_PAGE_LIMIT)
+                return Flux.error(InvalidRequestException.INVALID_PAGE_LIMIT);
+            return concurrencyLimiter.limitMany(() -> employeeRepository.readPage(afterId, limit));
+        });
+    }
+
+    @Override
+    public Flux<EmployeeResponseDto> streamEmployees() {
+        return metrics.timedMany("stream", () -> concurrencyLimiter.limitMany(() -> employeeRepository
+                .streamAll(exportProperties.cursorBatchSize())));
     }
 
     @Override
     public Mono<Void> deleteEmployeeById(String id) {
-        Assert.notNull(id, "Employee ID must not be null.");
-        return employeeRepository.deleteById(id);
+        return metrics.timed("delete", () -> {
+            Assert.notNull(id, "Employee ID must not be null.");
+            // an ID no employee had leaves no trace in the outbox or the history
+            return concurrencyLimiter.limit(() -> outbox.deleted(id, employeeRepository.findAndDeleteById(id))
+                    .doOnNext(deleted -> auditQueue.deleted(id))
+                    .then()
+                    .doFinally(signal -> {
+                        employeeCache.invalidate(id);
+                        suggestIndex.remove(id);
+                    }));
+        });
+    }
+
+    @Override
+    public Flux<EmployeeAuditEntryDto> getEmployeeHistory(String id, int limit) {
+        return metrics.timedMany("history", () -> {
+            Assert.notNull(id, "Employee ID must not be null.");
+            if (limit <= 0 || limit > MAX_PAGE_LIMIT)
+                return Flux.error(InvalidRequestException.INVALID_PAGE_LIMIT);
+            return concurrencyLimiter.limitMany(() -> auditRepository.findHistory(id, limit));
+        });
+    }
+
+    private void written(EmployeeResponseDto responseDto) {
+        employeeCache.put(responseDto);
+        suggestIndex.put(responseDto);
     }
 }
@@ -0,0 +1,59 @@
+package com.employeemanagement.throttling;
+
+import com.employeemanagement.config.EmployeeConcurrencyProperties;
+import com.employeemanagement.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of Mongo-bound operations in progress. Operations over the cap fail right away with a shared
+ * {@link ServiceOverloadedException} instead of queueing, so latency stays bounded under overload.
+ */
+@Component
+public class ConcurrencyLimiter {
+    private final int maxInFlight;
+    private final ServiceOverloadedException overloaded;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public ConcurrencyLimiter(EmployeeConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        this.maxInFlight = properties.maxInFlight();
+        this.overloaded = new ServiceOverloadedException(properties.retryAfter());
+        Gauge.builder("employee.service.in-flight", inFlight, AtomicInteger::get)
+                .description("Mongo-bound employee operations in progress")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Holds a permit from subscription until the {@link Mono} built by {@code call} terminates or is cancelled.
+     */
+    public <T> Mono<T> limit(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> tryAcquire()
+                ? Mono.defer(call).doFinally(signal -> inFlight.decrementAndGet())
+                : Mono.error(overloaded));
+    }
+
+    /**
+     * Holds a permit from subscription until the {@link Flux} built by {@code call} terminates or is cancelled.
+     */
+    public <T> Flux<T> limitMany(Supplier<Flux<T>> call) {
+        return Flux.defer(() -> tryAcquire()
+                ? Flux.defer(call).doFinally(signal -> inFlight.decrementAndGet())
+                : Flux.error(overloaded));
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxInFlight)
+                return false;
+            if (inFlight.compareAndSet(current, current + 1))
+                return true;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.employeemanagement.throttling;
+
+import com.employeemanagement.config.EmployeeRateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static com.employeemanagement.utils.EmployeeManagementUtils.BASE_URL;
+
+/**
+ * Rejects requests to the employees API with {@code 429 Too Many Requests} and a {@code Retry-After} header once
+ * their client has used up its {@link TokenBucket}. Rejections are answered before any decoding or routing, without
+ * a body. Only the API keys listed in {@code employee-management.rate-limit.api-keys} get a bucket of their own;
+ * any other request is limited by its IP address, so inventing a key per request neither escapes the limit nor
+ * evicts the buckets of other clients.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "employee-management.rate-limit.enabled", matchIfMissing = true)
+public class RateLimitingWebFilter implements WebFilter {
+    private static final String UNKNOWN_CLIENT = "unknown";
+
+    private final EmployeeRateLimitProperties properties;
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitingWebFilter(EmployeeRateLimitProperties properties) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxClients())
+                .expireAfterAccess(properties.idleTimeout())
+                .build();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!request.getPath().value().startsWith(BASE_URL))
+            return chain.filter(exchange);
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(clientKey(request),
+                key -> new TokenBucket(properties.capacity(), properties.refillPerSecond(), now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos == 0)
+            return chain.filter(exchange);
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(toRetryAfterSeconds(waitNanos)));
+        return exchange.getResponse().setComplete();
+    }
+
+    private String clientKey(ServerHttpRequest request) {
+        String apiKey = request.getHeaders().getFirst(properties.apiKeyHeader());
+        if (apiKey != null && properties.apiKeys().contains(apiKey))
+            return STR."key:\{apiKey}";
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null)
+            return UNKNOWN_CLIENT;
+        return STR."ip:\{remoteAddress.getAddress() == null
+                ? remoteAddress.getHostString() : remoteAddress.getAddress().getHostAddress()}";
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        // Retry-After has whole seconds, rounding down would invite clients back too early
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
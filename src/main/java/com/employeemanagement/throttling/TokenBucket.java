@@ -0,0 +1,35 @@
+package com.employeemanagement.throttling;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, kept as the single instant at which the bucket would be full again (the generic cell rate
+ * algorithm), so taking a token is one compare-and-set.
+ */
+final class TokenBucket {
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(long capacity, long refillPerSecond, long nowNanos) {
+        this.refillIntervalNanos = TimeUnit.SECONDS.toNanos(1) / refillPerSecond;
+        this.burstNanos = refillIntervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @return {@code 0} when a token was taken, otherwise the nanoseconds until one is available
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + refillIntervalNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0)
+                return wait;
+            if (fullAt.compareAndSet(current, next))
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.employeemanagement.utils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Hands out the current local date-time, resolving it against the time zone at most once per millisecond however
+ * many callers ask.
+ */
+public final class CachedClock {
+    private static volatile Tick tick = new Tick(System.currentTimeMillis());
+
+    private CachedClock() {
+    }
+
+    public static LocalDateTime now() {
+        long millis = System.currentTimeMillis();
+        Tick current = tick;
+        if (current.millis() != millis)
+            tick = current = new Tick(millis);
+        return current.dateTime();
+    }
+
+    private record Tick(long millis, LocalDateTime dateTime) {
+        Tick(long millis) {
+            this(millis, LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.employeemanagement.utils;
+
+import org.bson.types.ObjectId;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the keyset position of a page as an opaque token, so clients never depend on the {@code _id} format.
+ */
+public final class CursorUtils {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorUtils() {
+    }
+
+    public static String encode(String id) {
+        Assert.notNull(id, "Cursor ID must not be null.");
+        return ENCODER.encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decode(String cursor) {
+        if (cursor == null)
+            return null;
+        String id;
+        try {
+            id = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(STR."Invalid pagination cursor \{cursor}");
+        }
+        Assert.isTrue(ObjectId.isValid(id), STR."Invalid pagination cursor \{cursor}");
+        return id;
+    }
+}
@@ -0,0 +1,92 @@
+package com.employeemanagement.utils;
+
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Maps the optimistic-locking version of an employee to a strong entity tag and back, and checks conditional
+ * requests against it.
+ */
+public final class ETagUtils {
+    private static final String ANY = "*";
+
+    private ETagUtils() {
+    }
+
+    public static String toETag(Long version) {
+        return version == null ? null : STR."\"\{version}\"";
+    }
+
+    /**
+     * @return a strong entity tag changing whenever an employee of the page is added, removed or updated
+     */
+    public static String toETag(List<EmployeeResponseDto> page) {
+        long hash = page.size();
+        for (EmployeeResponseDto responseDto : page) {
+            hash = 31 * hash + Objects.hashCode(responseDto.id());
+            hash = 31 * hash + Objects.hashCode(responseDto.version());
+        }
+        return STR."\"\{Long.toHexString(hash)}\"";
+    }
+
+    /**
+     * @return whether the request carries validators a version stamp can answer without the employee itself
+     */
+    public static boolean isConditional(HttpHeaders headers) {
+        return !headers.getIfNoneMatch().isEmpty() || headers.getIfModifiedSince() >= 0;
+    }
+
+    /**
+     * Checks {@code If-None-Match} and {@code If-Modified-Since} against a version stamp. When they match, the
+     * response is already set up as a {@code 304 Not Modified} and only needs to be completed.
+     */
+    public static boolean checkNotModified(ServerWebExchange exchange, Long version, Instant lastModified) {
+        // dates before the epoch are how the exchange is told there is no modification date to check
+        return exchange.checkNotModified(toETag(version), lastModified == null ? Instant.MIN : lastModified);
+    }
+
+    /**
+     * Parses the entity tags of an {@code If-Match} header. They are compared strongly, so weak tags and tags that are
+     * not an employee version never match and are left out.
+     *
+     * @return the versions the employee may be at, {@literal null} when the header is absent or {@code *}, empty when
+     * no tag can match
+     */
+    public static List<Long> toVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim()))
+            return null;
+        List<Long> versions = new ArrayList<>(1);
+        int index = 0;
+        while (index < ifMatch.length()) {
+            char current = ifMatch.charAt(index);
+            if (current == ',' || Character.isWhitespace(current)) {
+                index++;
+                continue;
+            }
+            boolean weak = ifMatch.startsWith("W/", index);
+            int open = weak ? index + 2 : index;
+            int close = open < ifMatch.length() && ifMatch.charAt(open) == '"' ? ifMatch.indexOf('"', open + 1) : -1;
+            if (close < 0)
+                throw new IllegalArgumentException(STR."If-Match must be a list of entity tags, got \{ifMatch}");
+            Long version = weak ? null : parseVersion(ifMatch.substring(open + 1, close));
+            if (version != null)
+                versions.add(version);
+            index = close + 1;
+        }
+        return versions;
+    }
+
+    private static Long parseVersion(String opaqueTag) {
+        try {
+            return Long.parseLong(opaqueTag);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
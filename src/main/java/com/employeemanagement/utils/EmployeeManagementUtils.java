@@ -3,4 +3,17 @@ package com.employeemanagement.utils;
 public class EmployeeManagementUtils {
     public static final String BASE_URL = "/api/v1/employees";
     public static final String URI_VARIABLE = "/{id}";
+    public static final String HISTORY_URI = "/{id}/_history";
+    public static final String BULK_URI = "/_bulk";
+    public static final String MULTI_GET_URI = "/_mget";
+    public static final String SEARCH_URI = "/_search";
+    public static final String SUGGEST_URI = "/_suggest";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String DEFAULT_PAGE_LIMIT = "100";
+    public static final int MAX_PAGE_LIMIT = 1000;
+    public static final String DEFAULT_SUGGEST_LIMIT = "10";
+    public static final int MAX_SUGGEST_LIMIT = 100;
+    public static final int MAX_MULTI_GET_IDS = 1000;
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
 }
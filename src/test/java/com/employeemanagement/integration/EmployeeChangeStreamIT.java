@@ -0,0 +1,94 @@
+package com.employeemanagement.integration;
+
+import com.employeemanagement.document.Employee;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.repository.EmployeeRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import static com.employeemanagement.utils.EmployeeManagementUtils.BASE_URL;
+import static com.employeemanagement.utils.EmployeeManagementUtils.URI_VARIABLE;
+
+/**
+ * Runs against the single-node replica set started by {@link AbstractContainerBaseTest}, writing straight to the
+ * collection the way another node would.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "employee-management.change-stream.enabled=true",
+        "employee-management.change-stream.node-id=change-stream-it",
+        "employee-management.change-stream.resume-token-flush-interval=100ms"
+})
+public class EmployeeChangeStreamIT extends AbstractContainerBaseTest {
+    private static final String URL_TEMPLATE = BASE_URL + URI_VARIABLE;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private final EmployeeRepository employeeRepository;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final WebTestClient webTestClient;
+
+    @Autowired
+    public EmployeeChangeStreamIT(EmployeeRepository employeeRepository, ReactiveMongoTemplate mongoTemplate,
+                                  WebTestClient webTestClient) {
+        this.employeeRepository = employeeRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.webTestClient = webTestClient;
+    }
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll().block();
+    }
+
+    @DisplayName(value = "JUnit Test for evict a cached Employee changed by another node")
+    @Test
+    public void givenCachedEmployee_whenChangedByAnotherNode_thenChangedEmployeeIsReturned() {
+        // ...let's first create and save an Employee, and read it once so it gets cached
+        Employee employee = Employee.builder()
+                .firstName("Test Name")
+                .lastName("Test Last Name")
+                .email("test@testemail.com")
+                .build();
+        employee = employeeRepository.insert(employee).block();
+        Objects.requireNonNull(employee);
+        final String employeeId = employee.getId();
+        webTestClient.get().uri(URL_TEMPLATE, employeeId).exchange().expectStatus().isOk();
+
+        // given
+        employeeRepository.save(Employee.builder()
+                .id(employeeId)
+                .firstName("Changed Elsewhere")
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
+                .version(employee.getVersion())
+                .build()).block();
+
+        // when
+        Mono<String> firstName = Mono.defer(() -> Mono.justOrEmpty(webTestClient.get().uri(URL_TEMPLATE, employeeId)
+                        .exchange()
+                        .expectStatus().isOk()
+                        .expectBody(EmployeeResponseDto.class)
+                        .returnResult()
+                        .getResponseBody()))
+                .map(EmployeeResponseDto::firstName)
+                .filter("Changed Elsewhere"::equals)
+                .repeatWhenEmpty(attempts -> attempts.delayElements(Duration.ofMillis(100)));
+
+        // then
+        StepVerifier.create(firstName).expectNext("Changed Elsewhere").expectComplete().verify(TIMEOUT);
+        StepVerifier.create(mongoTemplate.findById("change-stream-it", Document.class, "change_stream_resume_tokens")
+                        .repeatWhenEmpty(attempts -> attempts.delayElements(Duration.ofMillis(100))))
+                .expectNextMatches(token -> token.getString("token") != null)
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+}
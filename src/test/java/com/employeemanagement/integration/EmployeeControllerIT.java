@@ -2,21 +2,34 @@ package com.employeemanagement.integration;
 
 import com.employeemanagement.document.Employee;
 import com.employeemanagement.model.HttpErrorCode;
+import com.employeemanagement.model.dto.BulkItemResponseDto;
 import com.employeemanagement.model.dto.EmployeeRequestDto;
 import com.employeemanagement.model.dto.EmployeeResponseDto;
 import com.employeemanagement.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingOperationError;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 
+import java.util.List;
 import java.util.Objects;
 
 import static com.employeemanagement.utils.EmployeeManagementUtils.BASE_URL;
+import static com.employeemanagement.utils.EmployeeManagementUtils.BULK_URI;
+import static com.employeemanagement.utils.EmployeeManagementUtils.NEXT_CURSOR_HEADER;
+import static com.employeemanagement.utils.EmployeeManagementUtils.SEARCH_URI;
+import static com.employeemanagement.utils.EmployeeManagementUtils.SUGGEST_URI;
 import static com.employeemanagement.utils.EmployeeManagementUtils.URI_VARIABLE;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -32,9 +45,16 @@ public class EmployeeControllerIT extends AbstractContainerBaseTest {
         this.webTestClient = webTestClient;
     }
 
+    @BeforeAll
+    static void installBlockHound() {
+        // any blocking call made on a reactor thread fails the request instead of stalling the event loop
+        BlockHound.install();
+    }
+
     @BeforeEach
     void setUp() {
-        employeeRepository.deleteAll().subscribe();
+        // emails are unique, so every test must start from an empty collection
+        employeeRepository.deleteAll().block();
     }
 
     @DisplayName(value = "JUnit Test for create an Employee successfully")
@@ -64,6 +84,168 @@ public class EmployeeControllerIT extends AbstractContainerBaseTest {
                 .jsonPath("$.email").isEqualTo(requestDto.email());
     }
 
+    @DisplayName(value = "JUnit Test for create Employees in bulk from a JSON array")
+    @Test
+    public void givenRequestDtos_whenCreateEmployees_thenEmployeesCreatedAndResultPerEmployeeIsReturned() {
+        // given
+        final List<EmployeeRequestDto> requestDtos = List.of(
+                EmployeeRequestDto.builder().firstName("First").lastName("Last").email("first@testemail.com").build(),
+                EmployeeRequestDto.builder().firstName("Second").lastName("Last").email("second@testemail.com").build(),
+                EmployeeRequestDto.builder().firstName("Third").lastName("Last").email("third@testemail.com").build());
+
+        // when
+        List<BulkItemResponseDto> results = webTestClient.post().uri(BASE_URL + BULK_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(requestDtos)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(BulkItemResponseDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // then
+        assertThat(results).extracting(BulkItemResponseDto::index).containsExactly(0L, 1L, 2L);
+        assertThat(results).allSatisfy(item -> {
+            assertThat(item.error()).isNull();
+            assertThat(employeeRepository.existsById(item.id()).block()).isTrue();
+        });
+    }
+
+    @DisplayName(value = "JUnit Test for create an Employee with an email already in use")
+    @Test
+    public void givenRequestDtoWithTakenEmail_whenCreateEmployee_thenStatusConflictIsReturned() {
+        // ...let's first create and save an Employee
+        employeeRepository.insert(Employee.builder()
+                .firstName("Test Name")
+                .lastName("Test Last Name")
+                .email("test@testemail.com")
+                .build()).block();
+
+        // given
+        final EmployeeRequestDto requestDto = EmployeeRequestDto.builder()
+                .firstName("Other Name")
+                .lastName("Other Last Name")
+                .email("test@testemail.com")
+                .build();
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.post().uri(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .body(Mono.just(requestDto), EmployeeRequestDto.class)
+                .exchange();
+
+        // then
+        response.expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.message").isEqualTo("Employee already exists for email test@testemail.com")
+                .jsonPath("$.errorCode").isEqualTo(HttpErrorCode.RESOURCE_ALREADY_EXISTS.toString());
+    }
+
+    @DisplayName(value = "JUnit Test for create several Employees without an email")
+    @Test
+    public void givenRequestDtosWithoutEmail_whenCreateEmployees_thenEveryEmployeeIsCreated() {
+        // given
+        final List<EmployeeRequestDto> requestDtos = List.of(
+                EmployeeRequestDto.builder().firstName("First").lastName("Last").build(),
+                EmployeeRequestDto.builder().firstName("Second").lastName("Last").build());
+
+        // when
+        List<BulkItemResponseDto> results = webTestClient.post().uri(BASE_URL + BULK_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(requestDtos)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(BulkItemResponseDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // then
+        assertThat(results).hasSize(2).allSatisfy(item -> assertThat(item.error()).isNull());
+    }
+
+    @DisplayName(value = "JUnit Test for get an Employee by email")
+    @Test
+    public void givenEmail_whenGetEmployee_thenEmployeeAndStatusOkIsReturned() {
+        // ...let's first create and save an Employee
+        Employee employee = employeeRepository.insert(Employee.builder()
+                .firstName("Test Name")
+                .lastName("Test Last Name")
+                .email("test@testemail.com")
+                .build()).block();
+        Objects.requireNonNull(employee);
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_URL).queryParam("email", "test@testemail.com").build())
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.id").isEqualTo(employee.getId())
+                .jsonPath("$.email").isEqualTo("test@testemail.com");
+    }
+
+    @DisplayName(value = "JUnit Test for search Employees by last and first name prefixes")
+    @Test
+    public void givenNamePrefixes_whenSearchEmployees_thenMatchingEmployeesInNameOrderAreReturned() {
+        // ...let's first create and save Employees
+        employeeRepository.insert(List.of(
+                Employee.builder().firstName("Julia").lastName("Smithson").email("js@testemail.com").build(),
+                Employee.builder().firstName("John").lastName("Smith").email("jsmith@testemail.com").build(),
+                Employee.builder().firstName("Anna").lastName("Smith").email("asmith@testemail.com").build(),
+                Employee.builder().firstName("John").lastName("Doe").email("jdoe@testemail.com").build())).blockLast();
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_URL + SEARCH_URI)
+                        .queryParam("lastName", "Smi")
+                        .queryParam("firstName", "J")
+                        .build())
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].lastName").isEqualTo("Smith")
+                .jsonPath("$[1].lastName").isEqualTo("Smithson");
+    }
+
+    @DisplayName(value = "JUnit Test for suggest Employees created through the API by name prefix")
+    @Test
+    public void givenCreatedEmployee_whenSuggestEmployees_thenEmployeeIsSuggested() {
+        // ...let's first create an Employee through the API
+        webTestClient.post().uri(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(EmployeeRequestDto.builder()
+                        .firstName("Suggested")
+                        .lastName("Employee")
+                        .email("suggested@testemail.com")
+                        .build())
+                .exchange()
+                .expectStatus().isCreated();
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_URL + SUGGEST_URI).queryParam("q", "sugg").build())
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$[0].email").isEqualTo("suggested@testemail.com");
+    }
+
     @DisplayName(value = "JUnit Test for get and Employee by ID")
     @Test
     public void givenEmployeeId_whenGetEmployee_thenEmployeeAndStatusOkIsReturned() {
@@ -105,7 +287,7 @@ public class EmployeeControllerIT extends AbstractContainerBaseTest {
         response.expectStatus().isNotFound()
                 .expectBody()
                 .consumeWith(System.out::println)
-                .jsonPath("$.message").isEqualTo(STR."Employee not found for ID \{employeeId}")
+                .jsonPath("$.message").isEqualTo("Employee not found for the requested ID")
                 .jsonPath("$.timestamp").isNotEmpty()
                 .jsonPath("$.errorCode").isEqualTo(HttpErrorCode.RESOURCE_NOT_FOUND.toString());
     }
@@ -124,6 +306,44 @@ public class EmployeeControllerIT extends AbstractContainerBaseTest {
                 .consumeWith(System.out::println);
     }
 
+    @DisplayName(value = "JUnit Test for walk through the Employees page by page using the next cursor")
+    @Test
+    public void givenLimitAndCursor_whenListEmployees_thenNextPageWithStatusOkIsReturned() {
+        // ...let's first create and save three Employees
+        employeeRepository.deleteAll()
+                .thenMany(employeeRepository.insert(List.of(
+                        Employee.builder().firstName("First").lastName("Last").email("first@testemail.com").build(),
+                        Employee.builder().firstName("Second").lastName("Last").email("second@testemail.com").build(),
+                        Employee.builder().firstName("Third").lastName("Last").email("third@testemail.com").build())))
+                .blockLast();
+
+        // given
+        final String nextCursor = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_URL).queryParam("limit", 2).build())
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(EmployeeResponseDto.class)
+                .getResponseHeaders()
+                .getFirst(NEXT_CURSOR_HEADER);
+        assertThat(nextCursor).isNotBlank();
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_URL)
+                        .queryParam("limit", 2)
+                        .queryParam("after", nextCursor)
+                        .build())
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectHeader().doesNotExist(NEXT_CURSOR_HEADER)
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].firstName").isEqualTo("Third");
+    }
+
     @DisplayName(value = "JUnit Test for update an Employee successfully")
     @Test
     public void givenEmployeeIdAndUpdateRequest_whenUpdateEmployee_thenUpdatedEmployeeWithStatusOkIsReturned() {
@@ -183,11 +403,56 @@ public class EmployeeControllerIT extends AbstractContainerBaseTest {
         response.expectStatus().isNotFound()
                 .expectBody()
                 .consumeWith(System.out::println)
-                .jsonPath("$.message").isEqualTo(STR."Employee not found for ID \{employeeId}")
+                .jsonPath("$.message").isEqualTo("Employee not found for the requested ID")
                 .jsonPath("$.timestamp").isNotEmpty()
                 .jsonPath("$.errorCode").isEqualTo(HttpErrorCode.RESOURCE_NOT_FOUND.toString());
     }
 
+    @DisplayName(value = "JUnit Test for update an Employee with a stale If-Match version")
+    @Test
+    public void givenStaleIfMatch_whenUpdateEmployee_thenStatusPreconditionFailedIsReturned() {
+        // ...let's first create and save an Employee, then move it past its first version
+        Employee employee = Employee.builder()
+                .firstName("Test Name")
+                .lastName("Test Last Name")
+                .email("test@testemail.com")
+                .build();
+        employee = employeeRepository.insert(employee).block();
+        Objects.requireNonNull(employee);
+        final String employeeId = employee.getId();
+        final String firstETag = webTestClient.get().uri(URL_TEMPLATE, employeeId).exchange()
+                .expectStatus().isOk()
+                .returnResult(EmployeeResponseDto.class)
+                .getResponseHeaders()
+                .getETag();
+        webTestClient.patch().uri(URL_TEMPLATE, employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, firstETag)
+                .bodyValue(EmployeeRequestDto.builder().firstName("First Writer").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(HttpHeaders.ETAG, eTag -> assertThat(eTag).isNotEqualTo(firstETag));
+
+        // given
+        final EmployeeRequestDto updateRequest = EmployeeRequestDto.builder().firstName("Second Writer").build();
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.patch().uri(URL_TEMPLATE, employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, firstETag)
+                .body(Mono.just(updateRequest), EmployeeRequestDto.class)
+                .exchange();
+
+        // then
+        response.expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED)
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.errorCode").isEqualTo(HttpErrorCode.PRECONDITION_FAILED.toString());
+        assertThat(employeeRepository.findById(employeeId).map(Employee::getFirstName).block())
+                .isEqualTo("First Writer");
+    }
+
     @DisplayName(value = "JUnit Test for delete an Employee successfully")
     @Test
     public void givenEmployeeId_whenDeleteEmployee_thenStatusNoContentIsReturned() {
@@ -212,4 +477,19 @@ public class EmployeeControllerIT extends AbstractContainerBaseTest {
                 .consumeWith(System.out::println);
         assertThat(employeeRepository.existsById(employeeId).block()).isFalse();
     }
+
+    @DisplayName(value = "JUnit Test for detect a blocking call running on a reactor thread")
+    @Test
+    public void givenBlockingCall_whenRunOnReactorThread_thenBlockingOperationErrorIsRaised() {
+        // given
+        Mono<Long> blockingCall = Mono.fromCallable(() -> {
+            Thread.sleep(10);
+            return 0L;
+        }).subscribeOn(Schedulers.parallel());
+
+        // when - then
+        StepVerifier.create(blockingCall)
+                .expectError(BlockingOperationError.class)
+                .verify();
+    }
 }
\ No newline at end of file
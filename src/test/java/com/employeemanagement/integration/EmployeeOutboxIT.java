@@ -0,0 +1,166 @@
+package com.employeemanagement.integration;
+
+import com.employeemanagement.model.dto.BulkItemResponseDto;
+import com.employeemanagement.model.dto.EmployeeOutboxEventDto;
+import com.employeemanagement.model.dto.EmployeeOutboxEventDto.Type;
+import com.employeemanagement.model.dto.EmployeeRequestDto;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.outbox.EmployeeEventSink;
+import com.employeemanagement.outbox.InMemoryEmployeeEventSink;
+import com.employeemanagement.repository.EmployeeOutboxRepository;
+import com.employeemanagement.repository.EmployeeRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import static com.employeemanagement.utils.EmployeeManagementUtils.BASE_URL;
+import static com.employeemanagement.utils.EmployeeManagementUtils.BULK_URI;
+import static com.employeemanagement.utils.EmployeeManagementUtils.URI_VARIABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willReturn;
+
+/**
+ * Runs against the single-node replica set started by {@link AbstractContainerBaseTest}, which Mongo transactions
+ * need, and relays the outbox to the in-memory sink.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "employee-management.outbox.enabled=true",
+        "employee-management.outbox.sink=memory",
+        "employee-management.outbox.poll-interval=100ms",
+        "employee-management.outbox.lease-duration=2s"
+})
+public class EmployeeOutboxIT extends AbstractContainerBaseTest {
+    private static final String URL_TEMPLATE = BASE_URL + URI_VARIABLE;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private final EmployeeRepository employeeRepository;
+    private final InMemoryEmployeeEventSink sink;
+    private final WebTestClient webTestClient;
+
+    @SpyBean
+    private EmployeeOutboxRepository outboxRepository;
+
+    @Autowired
+    public EmployeeOutboxIT(EmployeeRepository employeeRepository, EmployeeEventSink sink,
+                            WebTestClient webTestClient) {
+        this.employeeRepository = employeeRepository;
+        this.sink = (InMemoryEmployeeEventSink) sink;
+        this.webTestClient = webTestClient;
+    }
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll().block();
+    }
+
+    @DisplayName(value = "JUnit Test for publish an event for each create, update and delete of an Employee")
+    @Test
+    public void givenEmployeeWrites_whenRelayed_thenAnEventPerWriteIsPublishedInOrder() {
+        // given
+        final EmployeeResponseDto created = webTestClient.post().uri(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(EmployeeRequestDto.builder()
+                        .firstName("Test Name")
+                        .lastName("Test Last Name")
+                        .email("test@testemail.com")
+                        .build())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(EmployeeResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+        Objects.requireNonNull(created);
+        final String employeeId = created.id();
+
+        // when
+        webTestClient.patch().uri(URL_TEMPLATE, employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(EmployeeRequestDto.builder().firstName("Changed Name").build())
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.delete().uri(URL_TEMPLATE, employeeId).exchange().expectStatus().isNoContent();
+        // an ID no employee had is deleted without any event
+        final String missingId = new ObjectId().toHexString();
+        webTestClient.delete().uri(URL_TEMPLATE, missingId).exchange().expectStatus().isNoContent();
+
+        // then
+        await().atMost(TIMEOUT).untilAsserted(() -> assertThat(eventsOf(employeeId))
+                .extracting(EmployeeOutboxEventDto::type, EmployeeOutboxEventDto::version)
+                .containsExactly(tuple(Type.CREATED, 0L), tuple(Type.UPDATED, 1L), tuple(Type.DELETED, 2L)));
+        assertThat(eventsOf(employeeId).get(1).firstName()).isEqualTo("Changed Name");
+        assertThat(eventsOf(missingId)).isEmpty();
+    }
+
+    @DisplayName(value = "JUnit Test for publish an event for each Employee created in bulk")
+    @Test
+    public void givenBulkWithDuplicateEmail_whenRelayed_thenAnEventPerCreatedEmployeeIsPublished() {
+        // given
+        final List<EmployeeRequestDto> requestDtos = List.of(
+                EmployeeRequestDto.builder().firstName("First").lastName("Last").email("first@email.com").build(),
+                EmployeeRequestDto.builder().firstName("Again").lastName("Last").email("first@email.com").build(),
+                EmployeeRequestDto.builder().firstName("Second").lastName("Last").email("second@email.com").build());
+
+        // when
+        final List<BulkItemResponseDto> results = webTestClient.post().uri(BASE_URL + BULK_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(requestDtos)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(BulkItemResponseDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // then
+        assertThat(results).hasSize(3).filteredOn(item -> item.error() != null).hasSize(1);
+        final List<String> createdIds = results.stream()
+                .filter(item -> item.error() == null)
+                .map(BulkItemResponseDto::id)
+                .toList();
+        assertThat(createdIds).hasSize(2);
+        await().atMost(TIMEOUT).untilAsserted(() -> createdIds.forEach(id -> assertThat(eventsOf(id))
+                .extracting(EmployeeOutboxEventDto::type)
+                .containsExactly(Type.CREATED)));
+        assertThat(employeeRepository.count().block()).isEqualTo(2);
+    }
+
+    @DisplayName(value = "JUnit Test for roll back the Employee write when its outbox record cannot be written")
+    @Test
+    public void givenFailingOutboxInsert_whenCreateEmployee_thenEmployeeIsNotWritten() {
+        // given
+        willReturn(Mono.error(new IllegalStateException("Outbox unavailable"))).given(outboxRepository).insert(any());
+
+        // when
+        webTestClient.post().uri(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(EmployeeRequestDto.builder()
+                        .firstName("Test Name")
+                        .lastName("Test Last Name")
+                        .email("test@testemail.com")
+                        .build())
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+
+        // then
+        assertThat(employeeRepository.count().block()).isZero();
+    }
+
+    private List<EmployeeOutboxEventDto> eventsOf(String employeeId) {
+        return sink.events().stream().filter(event -> employeeId.equals(event.employeeId())).toList();
+    }
+}
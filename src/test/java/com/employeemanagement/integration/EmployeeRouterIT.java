@@ -0,0 +1,18 @@
+package com.employeemanagement.integration;
+
+import com.employeemanagement.repository.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Runs every {@link EmployeeControllerIT} against the functional routes.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "employee-management.web.mode=functional")
+public class EmployeeRouterIT extends EmployeeControllerIT {
+    @Autowired
+    public EmployeeRouterIT(EmployeeRepository employeeRepository, WebTestClient webTestClient) {
+        super(employeeRepository, webTestClient);
+    }
+}
@@ -0,0 +1,238 @@
+package com.employeemanagement.load;
+
+import com.employeemanagement.document.Employee;
+import com.employeemanagement.integration.AbstractContainerBaseTest;
+import com.employeemanagement.model.dto.EmployeeRequestDto;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static com.employeemanagement.utils.EmployeeManagementUtils.BASE_URL;
+import static com.employeemanagement.utils.EmployeeManagementUtils.SEARCH_URI;
+import static com.employeemanagement.utils.EmployeeManagementUtils.URI_VARIABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives a mixed read/write workload through Reactor Netty against the application backed by a local Mongo container,
+ * reports throughput and latency percentiles per endpoint to {@code target/load-test-report.json}, and fails when they
+ * regress from {@code load/baseline.json} by more than the threshold. Run with {@code mvn -Pload-test verify}; the
+ * workload is tuned with the {@code load.*} system properties below. To record a new baseline, copy the report over
+ * {@code src/test/resources/load/baseline.json}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "employee-management.rate-limit.enabled=false")
+public class EmployeeLoadIT extends AbstractContainerBaseTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeLoadIT.class);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 30));
+    private static final int SEED_EMPLOYEES = Integer.getInteger("load.seed-employees", 1_000);
+    private static final double REGRESSION_THRESHOLD =
+            Double.parseDouble(System.getProperty("load.regression-threshold", "0.2"));
+    private static final String BASELINE = "load/baseline.json";
+    private static final Path REPORT = Path.of("target", "load-test-report.json");
+    private static final String URL_TEMPLATE = BASE_URL + URI_VARIABLE;
+
+    private final EmployeeRepository employeeRepository;
+    private final ObjectMapper objectMapper;
+    private final WebClient webClient;
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<String> employeeIds = new ArrayList<>();
+
+    @Autowired
+    public EmployeeLoadIT(EmployeeRepository employeeRepository, ObjectMapper objectMapper,
+                          @LocalServerPort int port) {
+        this.employeeRepository = employeeRepository;
+        this.objectMapper = objectMapper;
+        // one connection per concurrent request, so the client pool does not queue requests and skew latencies
+        ConnectionProvider connections = ConnectionProvider.builder("load-test").maxConnections(CONCURRENCY).build();
+        this.webClient = WebClient.builder()
+                .baseUrl(STR."http://localhost:\{port}")
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll().block();
+        employeeIds.addAll(employeeRepository.insert(Flux.range(0, SEED_EMPLOYEES).map(i -> Employee.builder()
+                        .firstName(STR."First\{i}")
+                        .lastName(STR."Last\{i % 100}")
+                        .email(STR."seed\{i}@email.com")
+                        .build()))
+                .map(Employee::getId)
+                .collectList()
+                .block());
+    }
+
+    @DisplayName(value = "Load test for keep the mixed workload within the recorded baseline")
+    @Test
+    public void givenMixedWorkload_whenRunAtConcurrency_thenBaselineIsNotRegressed() throws IOException {
+        // given
+        run(WARMUP, new EnumMap<>(Endpoint.class));
+
+        // when
+        Map<Endpoint, Recording> recordings = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values())
+            recordings.put(endpoint, new Recording());
+        long elapsedNanos = run(DURATION, recordings);
+
+        // then
+        Map<String, EndpointStats> report = new LinkedHashMap<>();
+        recordings.forEach((endpoint, recording) -> report.put(endpoint.key, recording.stats(elapsedNanos)));
+        Files.createDirectories(REPORT.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), report);
+        report.forEach((endpoint, stats) -> LOGGER.info("{}: {}", endpoint, stats));
+
+        assertThat(report.values()).allSatisfy(stats -> assertThat(stats.errors()).isZero());
+        assertThat(regressions(report)).isEmpty();
+    }
+
+    private long run(Duration duration, Map<Endpoint, Recording> recordings) {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        // requests stop being issued at the deadline, but the ones in flight still complete and are recorded
+        Flux.<Endpoint>generate(sink -> sink.next(Endpoint.pick()))
+                .takeWhile(endpoint -> System.nanoTime() < deadline)
+                .flatMap(endpoint -> execute(endpoint, recordings.get(endpoint)), CONCURRENCY)
+                .blockLast();
+        return System.nanoTime() - start;
+    }
+
+    private Mono<Void> execute(Endpoint endpoint, Recording recording) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return endpoint.request.apply(this)
+                    .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode()))
+                    .doOnNext(status -> {
+                        if (recording != null)
+                            recording.record(System.nanoTime() - start, status.is2xxSuccessful());
+                    })
+                    .then();
+        });
+    }
+
+    private String randomEmployeeId() {
+        return employeeIds.get(ThreadLocalRandom.current().nextInt(employeeIds.size()));
+    }
+
+    private EmployeeRequestDto newEmployee() {
+        long i = sequence.incrementAndGet();
+        return new EmployeeRequestDto(STR."First\{i}", STR."Last\{i % 100}", STR."load\{i}@email.com");
+    }
+
+    private List<String> regressions(Map<String, EndpointStats> report) throws IOException {
+        ClassPathResource resource = new ClassPathResource(BASELINE);
+        if (!resource.exists()) {
+            LOGGER.warn("No {} to compare with, copy {} there to record one", BASELINE, REPORT);
+            return List.of();
+        }
+        Map<String, EndpointStats> baseline;
+        try (InputStream in = resource.getInputStream()) {
+            baseline = objectMapper.readValue(in, new TypeReference<>() {
+            });
+        }
+        List<String> regressions = new ArrayList<>();
+        baseline.forEach((endpoint, expected) -> {
+            EndpointStats actual = report.get(endpoint);
+            if (actual == null)
+                return;
+            if (actual.rps() < expected.rps() * (1 - REGRESSION_THRESHOLD))
+                regressions.add(STR."\{endpoint} rps \{actual.rps()} < baseline \{expected.rps()}");
+            if (actual.p99Millis() > expected.p99Millis() * (1 + REGRESSION_THRESHOLD))
+                regressions.add(STR."\{endpoint} p99 \{actual.p99Millis()}ms > baseline \{expected.p99Millis()}ms");
+        });
+        return regressions;
+    }
+
+    private enum Endpoint {
+        GET_BY_ID("get-by-id", 50, test -> test.webClient.get().uri(URL_TEMPLATE, test.randomEmployeeId())),
+        LIST("list", 10, test -> test.webClient.get().uri(STR."\{BASE_URL}?limit=100")),
+        SEARCH("search", 10, test -> test.webClient.get()
+                .uri(STR."\{BASE_URL}\{SEARCH_URI}?lastName=Last{n}&limit=20",
+                        ThreadLocalRandom.current().nextInt(100))),
+        CREATE("create", 15, test -> test.webClient.post().uri(BASE_URL).bodyValue(test.newEmployee())),
+        UPDATE("update", 15, test -> test.webClient.patch().uri(URL_TEMPLATE, test.randomEmployeeId())
+                .bodyValue(new EmployeeRequestDto(STR."First\{test.sequence.incrementAndGet()}", null, null)));
+
+        private static final int TOTAL_WEIGHT = 100;
+
+        private final String key;
+        private final int weight;
+        private final Function<EmployeeLoadIT, WebClient.RequestHeadersSpec<?>> request;
+
+        Endpoint(String key, int weight, Function<EmployeeLoadIT, WebClient.RequestHeadersSpec<?>> request) {
+            this.key = key;
+            this.weight = weight;
+            this.request = request;
+        }
+
+        private static Endpoint pick() {
+            int roll = ThreadLocalRandom.current().nextInt(TOTAL_WEIGHT);
+            for (Endpoint endpoint : values()) {
+                roll -= endpoint.weight;
+                if (roll < 0)
+                    return endpoint;
+            }
+            throw new IllegalStateException(STR."Endpoint weights must add up to \{TOTAL_WEIGHT}");
+        }
+    }
+
+    private static final class Recording {
+        private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long latencyNanos, boolean success) {
+            latencies.recordValue(Math.min(latencyNanos, latencies.getHighestTrackableValue()));
+            if (!success)
+                errors.incrementAndGet();
+        }
+
+        EndpointStats stats(long elapsedNanos) {
+            long requests = latencies.getTotalCount();
+            return new EndpointStats(requests, errors.get(), requests * 1e9 / elapsedNanos,
+                    toMillis(latencies.getValueAtPercentile(50)), toMillis(latencies.getValueAtPercentile(99)),
+                    toMillis(latencies.getValueAtPercentile(99.9)));
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1e6;
+        }
+    }
+
+    record EndpointStats(long requests, long errors, double rps, double p50Millis, double p99Millis,
+                         double p999Millis) {
+    }
+}
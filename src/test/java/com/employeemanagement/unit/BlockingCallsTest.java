@@ -0,0 +1,69 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.config.EmployeeBlockingProperties;
+import com.employeemanagement.config.EmployeeBlockingProperties.Mode;
+import com.employeemanagement.scheduling.BlockingCalls;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BlockingCallsTest {
+    @DisplayName(value = "JUnit Test for run a blocking call on a virtual thread")
+    @Test
+    public void givenVirtualThreadsMode_whenCall_thenCallRunsOnVirtualThread() {
+        // given
+        final BlockingCalls blockingCalls = new BlockingCalls(
+                new EmployeeBlockingProperties(Mode.VIRTUAL_THREADS, 2, 10, Duration.ofMillis(20)));
+
+        // when
+        Mono<Thread> callingThread = blockingCalls.call(Thread::currentThread);
+
+        // then
+        StepVerifier.create(callingThread)
+                .expectNextMatches(thread -> thread.isVirtual()
+                        && thread.getName().startsWith(BlockingCalls.SCHEDULER_NAME))
+                .verifyComplete();
+        blockingCalls.stop();
+    }
+
+    @DisplayName(value = "JUnit Test for never run more blocking calls at once than the max concurrency")
+    @Test
+    public void givenMaxConcurrencyReached_whenCall_thenCallWaitsForARunningOne() throws InterruptedException {
+        // given
+        final BlockingCalls blockingCalls = new BlockingCalls(
+                new EmployeeBlockingProperties(Mode.VIRTUAL_THREADS, 1, 10, Duration.ofMillis(20)));
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        Mono<Boolean> call = blockingCalls.call(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            boolean released = release.await(5, TimeUnit.SECONDS);
+            running.decrementAndGet();
+            return released;
+        });
+
+        // when
+        Mono<Boolean> both = Mono.zip(call, call, Boolean::logicalAnd);
+        Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+
+        // then
+        StepVerifier.create(both).expectNext(true).verifyComplete();
+        assertThat(maxRunning).hasValue(1);
+        blockingCalls.stop();
+    }
+}
@@ -0,0 +1,109 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.codec.BinaryMediaTypes;
+import com.employeemanagement.codec.CborDecoder;
+import com.employeemanagement.model.dto.EmployeeRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CborDecoderTest {
+    private static final ResolvableType REQUEST_TYPE = ResolvableType.forClass(EmployeeRequestDto.class);
+
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+    private final CborDecoder decoder = new CborDecoder(cborMapper);
+
+    @DisplayName(value = "JUnit Test for decode a CBOR sequence larger than the in-memory limit item by item")
+    @Test
+    public void givenCborSequenceOverInMemoryLimit_whenDecode_thenEveryItemIsDecoded() throws Exception {
+        // given
+        decoder.setMaxInMemorySize(1024);
+        final List<EmployeeRequestDto> requests = IntStream.range(0, 200)
+                .mapToObj(i -> EmployeeRequestDto.builder()
+                        .firstName(STR."Héctor \{i}")
+                        .lastName("Cortez")
+                        .email(STR."hc\{i}@email.com")
+                        .build())
+                .toList();
+        final ByteArrayOutputStream sequence = new ByteArrayOutputStream();
+        for (EmployeeRequestDto request : requests)
+            sequence.write(cborMapper.writeValueAsBytes(request));
+
+        // when
+        final Flux<Object> decoded = decoder.decode(chunks(sequence.toByteArray(), 7), REQUEST_TYPE,
+                BinaryMediaTypes.APPLICATION_CBOR_SEQ, Map.of());
+
+        // then
+        assertThat(sequence.size()).isGreaterThan(1024);
+        StepVerifier.create(decoded.collectList())
+                .assertNext(items -> assertThat(items).isEqualTo(requests))
+                .verifyComplete();
+    }
+
+    @DisplayName(value = "JUnit Test for decode the elements of definite and indefinite length CBOR arrays")
+    @Test
+    public void givenCborArrays_whenDecode_thenElementsAreDecoded() throws Exception {
+        // given
+        final List<EmployeeRequestDto> requests = List.of(
+                EmployeeRequestDto.builder().firstName("Héctor").lastName("Cortez").email("hc@email.com").build(),
+                EmployeeRequestDto.builder().firstName("Ana").lastName("Cortez").build());
+        final byte[] definite = cborMapper.writeValueAsBytes(requests);
+        final ByteArrayOutputStream indefinite = new ByteArrayOutputStream();
+        indefinite.write(0x9f);
+        for (EmployeeRequestDto request : requests)
+            indefinite.write(cborMapper.writeValueAsBytes(request));
+        indefinite.write(0xff);
+
+        // when - then
+        for (byte[] body : List.of(definite, indefinite.toByteArray()))
+            StepVerifier.create(decoder.decode(chunks(body, 3), REQUEST_TYPE, BinaryMediaTypes.APPLICATION_CBOR,
+                            Map.of()).collectList())
+                    .assertNext(items -> assertThat(items).isEqualTo(requests))
+                    .verifyComplete();
+    }
+
+    @DisplayName(value = "JUnit Test for reject a CBOR item over the in-memory limit")
+    @Test
+    public void givenCborItemOverInMemoryLimit_whenDecode_thenDataBufferLimitExceptionIsThrown() throws Exception {
+        // given
+        decoder.setMaxInMemorySize(64);
+        final byte[] item = cborMapper.writeValueAsBytes(EmployeeRequestDto.builder()
+                .firstName("Héctor".repeat(20))
+                .build());
+
+        // when
+        final Flux<Object> decoded = decoder.decode(chunks(item, 16), REQUEST_TYPE,
+                BinaryMediaTypes.APPLICATION_CBOR_SEQ, Map.of());
+
+        // then
+        StepVerifier.create(decoded)
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(DataBufferLimitException.class)
+                        .hasMessage("A CBOR item of the request body exceeds 64 bytes."))
+                .verify();
+    }
+
+    private static Flux<DataBuffer> chunks(byte[] bytes, int chunkSize) {
+        final List<DataBuffer> buffers = new ArrayList<>();
+        for (int from = 0; from < bytes.length; from += chunkSize)
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, from, Math.min(from + chunkSize, bytes.length))));
+        return Flux.fromIterable(buffers);
+    }
+}
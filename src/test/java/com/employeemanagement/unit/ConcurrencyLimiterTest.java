@@ -0,0 +1,36 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.config.EmployeeConcurrencyProperties;
+import com.employeemanagement.exception.ServiceOverloadedException;
+import com.employeemanagement.throttling.ConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+public class ConcurrencyLimiterTest {
+    private final ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(
+            new EmployeeConcurrencyProperties(1, Duration.ofSeconds(1)), new SimpleMeterRegistry());
+
+    @DisplayName(value = "JUnit Test for reject operations over the cap until a permit is released")
+    @Test
+    public void givenCapReached_whenLimit_thenOperationIsRejectedUntilPermitIsReleased() {
+        // given
+        final Sinks.One<String> pending = Sinks.one();
+        Disposable inFlight = concurrencyLimiter.limit(pending::asMono).subscribe();
+
+        // when
+        StepVerifier.create(concurrencyLimiter.limit(() -> Mono.just("second")))
+                .verifyError(ServiceOverloadedException.class);
+        pending.tryEmitValue("first");
+
+        // then
+        StepVerifier.create(concurrencyLimiter.limit(() -> Mono.just("third"))).expectNext("third").verifyComplete();
+        inFlight.dispose();
+    }
+}
@@ -0,0 +1,60 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.audit.EmployeeAuditQueue;
+import com.employeemanagement.config.EmployeeAuditProperties;
+import com.employeemanagement.config.EmployeeAuditProperties.Overflow;
+import com.employeemanagement.model.dto.EmployeeAuditEntryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeAuditQueueTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName(value = "JUnit Test for lose the newest change once the audit queue is full")
+    @Test
+    public void givenFullQueueDroppingNewest_whenDeleted_thenNewChangeIsDropped() {
+        // given
+        final EmployeeAuditQueue queue = queue(Overflow.DROP_NEWEST);
+        queue.deleted("first");
+        queue.deleted("second");
+
+        // when
+        queue.deleted("third");
+
+        // then
+        assertThat(queue.drain(10)).extracting(EmployeeAuditEntryDto::employeeId).containsExactly("first", "second");
+        assertThat(meterRegistry.get("employee.audit.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName(value = "JUnit Test for lose the oldest change once the audit queue is full")
+    @Test
+    public void givenFullQueueDroppingOldest_whenDeleted_thenOldestChangeIsDropped() {
+        // given
+        final EmployeeAuditQueue queue = queue(Overflow.DROP_OLDEST);
+        queue.deleted("first");
+        queue.deleted("second");
+
+        // when
+        queue.deleted("third");
+
+        // then
+        List<EmployeeAuditEntryDto> drained = queue.drain(10);
+        assertThat(drained).extracting(EmployeeAuditEntryDto::employeeId).containsExactly("second", "third");
+        assertThat(queue.size()).isZero();
+        assertThat(meterRegistry.get("employee.audit.dropped").counter().count()).isEqualTo(1);
+    }
+
+    private EmployeeAuditQueue queue(Overflow overflow) {
+        return new EmployeeAuditQueue(new EmployeeAuditProperties(true, 2, overflow, 500, Duration.ofSeconds(1),
+                Duration.ofSeconds(2), EmployeeAuditProperties.CollectionType.TIME_SERIES, DataSize.ofMegabytes(1),
+                Path.of("audit"), DataSize.ofMegabytes(1)), meterRegistry);
+    }
+}
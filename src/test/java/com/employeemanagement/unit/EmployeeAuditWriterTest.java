@@ -0,0 +1,72 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.audit.EmployeeAuditQueue;
+import com.employeemanagement.audit.EmployeeAuditWriter;
+import com.employeemanagement.config.EmployeeAuditProperties;
+import com.employeemanagement.config.EmployeeBlockingProperties;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.repository.EmployeeAuditRepository;
+import com.employeemanagement.scheduling.BlockingCalls;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class EmployeeAuditWriterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmployeeAuditRepository auditRepository = mock(EmployeeAuditRepository.class);
+
+    @TempDir
+    private Path logDirectory;
+
+    @DisplayName(value = "JUnit Test for append the changes Mongo does not take in time to the local log")
+    @Test
+    public void givenSlowMongo_whenStop_thenChangesAreAppendedToLocalLog() throws IOException {
+        // given
+        final EmployeeAuditProperties properties = new EmployeeAuditProperties(true, 100,
+                EmployeeAuditProperties.Overflow.DROP_NEWEST, 500, Duration.ofSeconds(1), Duration.ofMillis(50),
+                EmployeeAuditProperties.CollectionType.TIME_SERIES, DataSize.ofMegabytes(1), logDirectory,
+                DataSize.ofKilobytes(64));
+        final EmployeeAuditQueue queue = new EmployeeAuditQueue(properties, meterRegistry);
+        final BlockingCalls blockingCalls = new BlockingCalls(new EmployeeBlockingProperties(
+                EmployeeBlockingProperties.Mode.VIRTUAL_THREADS, 1, 10, Duration.ofMillis(20)));
+        final EmployeeAuditWriter writer = new EmployeeAuditWriter(queue, auditRepository, blockingCalls, properties,
+                new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+        final String employeeId = new ObjectId().toHexString();
+        given(auditRepository.insertAll(anyList())).willReturn(Mono.never());
+        queue.created(EmployeeResponseDto.builder().id(employeeId).firstName("Héctor").version(0L).build());
+        queue.deleted(employeeId);
+
+        // when
+        writer.stop();
+
+        // then
+        try (Stream<Path> segments = Files.list(logDirectory)) {
+            List<Path> files = segments.toList();
+            assertThat(files).hasSize(1);
+            assertThat(Files.readString(files.getFirst()))
+                    .contains(STR."\"employeeId\":\"\{employeeId}\",\"action\":\"CREATED\"")
+                    .contains("\"action\":\"DELETED\"");
+        }
+        assertThat(meterRegistry.get("employee.audit.written").tag("target", "file").counter().count())
+                .isEqualTo(2);
+        blockingCalls.stop();
+    }
+}
@@ -0,0 +1,105 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.config.EmployeeBatchLoaderProperties;
+import com.employeemanagement.config.EmployeeConcurrencyProperties;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.service.EmployeeBatchLoader;
+import com.employeemanagement.throttling.ConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class EmployeeBatchLoaderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final EmployeeBatchLoader batchLoader = new EmployeeBatchLoader(
+            new EmployeeBatchLoaderProperties(true, Duration.ofMillis(50), 100), employeeRepository,
+            new ConcurrencyLimiter(new EmployeeConcurrencyProperties(1, Duration.ofSeconds(1)), meterRegistry),
+            meterRegistry);
+
+    @AfterEach
+    public void tearDown() {
+        batchLoader.stop();
+    }
+
+    @DisplayName(value = "JUnit Test for read concurrent loads of Employees with a single query")
+    @Test
+    public void givenConcurrentLoads_whenLoad_thenEmployeesAreReadWithOneQuery() {
+        // given
+        final EmployeeResponseDto employee = EmployeeResponseDto.builder().id(new ObjectId().toHexString()).build();
+        final String missingId = new ObjectId().toHexString();
+        given(employeeRepository.readAllById(Set.of(employee.id(), missingId))).willReturn(Flux.just(employee));
+
+        // when
+        Mono<Boolean> loads = Mono.zip(batchLoader.load(employee.id()).hasElement(),
+                batchLoader.load(missingId).hasElement(), (found, missing) -> found && !missing);
+
+        // then
+        StepVerifier.create(loads).expectNext(true).verifyComplete();
+        verify(employeeRepository, times(1)).readAllById(anyCollection());
+        verify(employeeRepository, never()).readById(any());
+    }
+
+    @DisplayName(value = "JUnit Test for batch loads requested from several threads at once")
+    @Test
+    public void givenLoadsFromSeveralThreads_whenLoad_thenEveryLoadIsAnswered() {
+        // given
+        final List<String> ids = IntStream.range(0, 400).mapToObj(i -> new ObjectId().toHexString()).toList();
+        given(employeeRepository.readAllById(anyCollection())).willAnswer(invocation -> Flux
+                .fromIterable(invocation.<Collection<String>>getArgument(0))
+                .map(id -> EmployeeResponseDto.builder().id(id).build()));
+
+        // when
+        final Mono<List<String>> loaded = Flux.fromIterable(ids)
+                .parallel(8)
+                .runOn(Schedulers.parallel())
+                .flatMap(id -> batchLoader.load(id).map(EmployeeResponseDto::id))
+                .sequential()
+                .collectList();
+
+        // then
+        StepVerifier.create(loaded)
+                .assertNext(found -> assertThat(found).containsExactlyInAnyOrderElementsOf(ids))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        verify(employeeRepository, never()).readById(any());
+    }
+
+    @DisplayName(value = "JUnit Test for fail every load of a batch whose query failed")
+    @Test
+    public void givenFailingQuery_whenLoad_thenLoadFailsAndNextBatchIsStillRead() {
+        // given
+        final EmployeeResponseDto employee = EmployeeResponseDto.builder().id(new ObjectId().toHexString()).build();
+        given(employeeRepository.readAllById(anyCollection()))
+                .willReturn(Flux.error(new IllegalStateException("Mongo is down")))
+                .willReturn(Flux.just(employee));
+
+        // when
+        StepVerifier.create(batchLoader.load(employee.id())).verifyError(IllegalStateException.class);
+
+        // then
+        StepVerifier.create(batchLoader.load(employee.id())).expectNext(employee).verifyComplete();
+    }
+}
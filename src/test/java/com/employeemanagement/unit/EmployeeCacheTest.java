@@ -0,0 +1,133 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.cache.EmployeeCache;
+import com.employeemanagement.config.EmployeeCacheProperties;
+import com.employeemanagement.event.EmployeeChangeBus;
+import com.employeemanagement.event.EmployeeChangeEvent;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeCacheTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmployeeChangeBus changeBus = new EmployeeChangeBus();
+    private final EmployeeCache employeeCache =
+            new EmployeeCache(new EmployeeCacheProperties(100, Duration.ofMinutes(5)), meterRegistry, changeBus);
+    private final EmployeeResponseDto employee = EmployeeResponseDto.builder()
+            .id(new ObjectId().toHexString())
+            .firstName("Héctor")
+            .lastName("Cortez")
+            .email("hc@email.com")
+            .version(1L)
+            .build();
+
+    @DisplayName(value = "JUnit Test for share one load between concurrent misses for the same ID")
+    @Test
+    public void givenConcurrentMisses_whenGetEmployee_thenEmployeeIsLoadedOnce() {
+        // given
+        final AtomicInteger loads = new AtomicInteger();
+        final Sinks.One<EmployeeResponseDto> pendingLoad = Sinks.one();
+        Mono<EmployeeResponseDto> first = employeeCache.get(employee.id(), id -> {
+            loads.incrementAndGet();
+            return pendingLoad.asMono();
+        });
+        Mono<EmployeeResponseDto> second = employeeCache.get(employee.id(), id -> {
+            loads.incrementAndGet();
+            return pendingLoad.asMono();
+        });
+
+        // when
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> pendingLoad.tryEmitValue(employee))
+                // then
+                .expectNextMatches(both -> both.getT1() == employee && both.getT2() == employee)
+                .verifyComplete();
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName(value = "JUnit Test for load an Employee again once it was invalidated")
+    @Test
+    public void givenInvalidatedEmployee_whenGetEmployee_thenEmployeeIsLoadedAgain() {
+        // given
+        final AtomicInteger loads = new AtomicInteger();
+        employeeCache.put(employee);
+        employeeCache.invalidate(employee.id());
+
+        // when
+        Mono<EmployeeResponseDto> cached = employeeCache.get(employee.id(), id -> {
+            loads.incrementAndGet();
+            return Mono.just(employee);
+        });
+
+        // then
+        StepVerifier.create(cached).expectNext(employee).verifyComplete();
+        StepVerifier.create(cached).expectNext(employee).verifyComplete();
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @DisplayName(value = "JUnit Test for not cache an Employee that is not present in the database")
+    @Test
+    public void givenMissingEmployee_whenGetEmployee_thenNothingIsCached() {
+        // given
+        final AtomicInteger loads = new AtomicInteger();
+        Mono<EmployeeResponseDto> missing = employeeCache.get(employee.id(), id -> {
+            loads.incrementAndGet();
+            return Mono.empty();
+        });
+
+        // when - then
+        StepVerifier.create(missing).verifyComplete();
+        StepVerifier.create(missing).verifyComplete();
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName(value = "JUnit Test for evict an Employee changed by another node")
+    @Test
+    public void givenNewerChangeEvent_whenGetEmployee_thenEmployeeIsLoadedAgain() {
+        // given
+        final AtomicInteger loads = new AtomicInteger();
+        employeeCache.put(employee);
+        changeBus.publish(EmployeeChangeEvent.changed(employee.id(), 1L));
+        changeBus.publish(EmployeeChangeEvent.changed(employee.id(), 2L));
+
+        // when
+        Mono<EmployeeResponseDto> cached = employeeCache.get(employee.id(), id -> {
+            loads.incrementAndGet();
+            return Mono.just(employee);
+        });
+
+        // then
+        StepVerifier.create(cached).expectNext(employee).verifyComplete();
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName(value = "JUnit Test for keep an Employee whose change event it already reflects")
+    @Test
+    public void givenSameVersionChangeEvent_whenGetEmployee_thenCachedEmployeeIsReturned() {
+        // given
+        final AtomicInteger loads = new AtomicInteger();
+        employeeCache.put(employee);
+        changeBus.publish(EmployeeChangeEvent.changed(employee.id(), 1L));
+
+        // when
+        Mono<EmployeeResponseDto> cached = employeeCache.get(employee.id(), id -> {
+            loads.incrementAndGet();
+            return Mono.just(employee);
+        });
+
+        // then
+        StepVerifier.create(cached).expectNext(employee).verifyComplete();
+        assertThat(loads).hasValue(0);
+    }
+}
\ No newline at end of file
@@ -1,34 +1,69 @@
 package com.employeemanagement.unit;
 
+import com.employeemanagement.codec.BinaryMediaTypes;
+import com.employeemanagement.config.EmployeeRateLimitProperties;
+import com.employeemanagement.config.JacksonConfig;
 import com.employeemanagement.controller.EmployeeController;
+import com.employeemanagement.exception.DuplicateEmployeeException;
+import com.employeemanagement.exception.EmployeeNotFoundException;
+import com.employeemanagement.exception.EmployeeVersionConflictException;
+import com.employeemanagement.exception.IdempotencyKeyConflictException;
+import com.employeemanagement.exception.InvalidRequestException;
 import com.employeemanagement.model.HttpErrorCode;
+import com.employeemanagement.model.dto.BulkItemResponseDto;
+import com.employeemanagement.model.dto.EmployeeAuditEntryDto;
+import com.employeemanagement.model.dto.EmployeeAuditEntryDto.Action;
 import com.employeemanagement.model.dto.EmployeeRequestDto;
 import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.model.dto.EmployeeVersionDto;
+import com.employeemanagement.model.dto.MultiGetRequestDto;
+import com.employeemanagement.model.dto.MultiGetResponseDto;
 import com.employeemanagement.service.EmployeeService;
+import com.employeemanagement.utils.CursorUtils;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
+import java.time.Instant;
 import java.util.List;
 
 import static com.employeemanagement.utils.EmployeeManagementUtils.BASE_URL;
+import static com.employeemanagement.utils.EmployeeManagementUtils.BULK_URI;
+import static com.employeemanagement.utils.EmployeeManagementUtils.HISTORY_URI;
+import static com.employeemanagement.utils.EmployeeManagementUtils.IDEMPOTENCY_KEY_HEADER;
+import static com.employeemanagement.utils.EmployeeManagementUtils.MULTI_GET_URI;
+import static com.employeemanagement.utils.EmployeeManagementUtils.NEXT_CURSOR_HEADER;
+import static com.employeemanagement.utils.EmployeeManagementUtils.SEARCH_URI;
 import static com.employeemanagement.utils.EmployeeManagementUtils.URI_VARIABLE;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 @WebFluxTest(controllers = EmployeeController.class)
+@Import(JacksonConfig.class)
+// the slice picks up the rate limiting filter but not the properties scan of the application
+@EnableConfigurationProperties(EmployeeRateLimitProperties.class)
 public class EmployeeControllerTest {
     private final String URL_TEMPLATE = BASE_URL + URI_VARIABLE;
 
@@ -52,7 +87,7 @@ public class EmployeeControllerTest {
                 .lastName("Cortez")
                 .email("hc@email.com")
                 .build();
-        given(employeeService.createEmployee(any(EmployeeRequestDto.class)))
+        given(employeeService.createEmployee(any(EmployeeRequestDto.class), isNull()))
                 .willReturn(Mono.just(EmployeeResponseDto.builder()
                         .id(objectId.toHexString())
                         .firstName("Héctor")
@@ -78,6 +113,36 @@ public class EmployeeControllerTest {
                 .jsonPath("$.email").isEqualTo(requestDto.email());
     }
 
+    @DisplayName(value = "JUnit Test for create Employees in bulk from an NDJSON stream")
+    @Test
+    public void givenNdjsonRequests_whenCreateEmployees_thenResultPerEmployeeWithStatusOkIsReturned() {
+        // given
+        final String requests = """
+                {"firstName":"Héctor","lastName":"Cortez","email":"hc@email.com"}
+                {"firstName":"Ana","lastName":"Cortez","email":"ac@email.com"}
+                """;
+        given(employeeService.createEmployees(any()))
+                .willReturn(Flux.just(
+                        BulkItemResponseDto.builder().index(0).id(objectId.toHexString()).build(),
+                        BulkItemResponseDto.builder().index(1).error("E11000 duplicate key error").build()));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.post().uri(BASE_URL + BULK_URI)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(requests)
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .returnResult(BulkItemResponseDto.class)
+                .getResponseBody()
+                .as(StepVerifier::create)
+                .expectNextMatches(item -> item.index() == 0 && objectId.toHexString().equals(item.id()))
+                .expectNextMatches(item -> item.index() == 1 && item.id() == null && item.error() != null)
+                .verifyComplete();
+    }
+
     @DisplayName(value = "JUnit Test for get an Employee by ID")
     @Test
     public void givenEmployeeId_whenGetEmployee_thenEmployeeAndStatusOkIsReturned() {
@@ -89,6 +154,7 @@ public class EmployeeControllerTest {
                         .firstName("Héctor")
                         .lastName("Cortez")
                         .email("hc@email.com")
+                        .version(2L)
                         .build()));
 
         // when
@@ -96,6 +162,7 @@ public class EmployeeControllerTest {
 
         // then
         response.expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"2\"")
                 .expectBody()
                 .consumeWith(System.out::println)
                 .jsonPath("$.id").isEqualTo(employeeId)
@@ -104,13 +171,175 @@ public class EmployeeControllerTest {
                 .jsonPath("$.email").isEqualTo("hc@email.com");
     }
 
+    @DisplayName(value = "JUnit Test for get an Employee by email")
+    @Test
+    public void givenEmail_whenGetEmployee_thenEmployeeAndStatusOkIsReturned() {
+        // given
+        given(employeeService.getEmployeeByEmail("hc@email.com"))
+                .willReturn(Mono.just(EmployeeResponseDto.builder()
+                        .id(objectId.toHexString())
+                        .firstName("Héctor")
+                        .lastName("Cortez")
+                        .email("hc@email.com")
+                        .build()));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_URL).queryParam("email", "hc@email.com").build())
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.id").isEqualTo(objectId.toHexString())
+                .jsonPath("$.email").isEqualTo("hc@email.com");
+    }
+
+    @DisplayName(value = "JUnit Test for get several Employees by ID in a single request")
+    @Test
+    public void givenEmployeeIds_whenGetEmployeesByIds_thenEmployeesFoundAndMissingIdsAreReturned() {
+        // given
+        final String missingId = new ObjectId().toHexString();
+        final MultiGetRequestDto requestDto = new MultiGetRequestDto(List.of(missingId, objectId.toHexString()));
+        given(employeeService.getEmployeesByIds(requestDto.ids()))
+                .willReturn(Mono.just(MultiGetResponseDto.builder()
+                        .employees(List.of(EmployeeResponseDto.builder()
+                                .id(objectId.toHexString())
+                                .firstName("Héctor")
+                                .build()))
+                        .missing(List.of(missingId))
+                        .build()));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.post().uri(BASE_URL + MULTI_GET_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestDto)
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.employees[0].id").isEqualTo(objectId.toHexString())
+                .jsonPath("$.missing[0]").isEqualTo(missingId);
+    }
+
+    @DisplayName(value = "JUnit Test for get several Employees by a comma separated ids parameter")
+    @Test
+    public void givenIdsParameter_whenGetEmployeesByIds_thenEveryIdIsRequested() {
+        // given
+        final String otherId = new ObjectId().toHexString();
+        given(employeeService.getEmployeesByIds(List.of(objectId.toHexString(), otherId)))
+                .willReturn(Mono.just(MultiGetResponseDto.builder()
+                        .employees(List.of())
+                        .missing(List.of(objectId.toHexString(), otherId))
+                        .build()));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_URL)
+                        .queryParam("ids", STR."\{objectId.toHexString()},\{otherId}")
+                        .build())
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.employees").isEmpty()
+                .jsonPath("$.missing[1]").isEqualTo(otherId);
+    }
+
+    @DisplayName(value = "JUnit Test for get the history of an Employee")
+    @Test
+    public void givenEmployeeId_whenGetEmployeeHistory_thenChangesMostRecentFirstAreReturned() {
+        // given
+        final String employeeId = objectId.toHexString();
+        given(employeeService.getEmployeeHistory(employeeId, 10))
+                .willReturn(Flux.just(
+                        EmployeeAuditEntryDto.builder().employeeId(employeeId).action(Action.UPDATED).version(1L)
+                                .timestamp(Instant.parse("2024-01-02T00:00:00Z")).build(),
+                        EmployeeAuditEntryDto.builder().employeeId(employeeId).action(Action.CREATED).version(0L)
+                                .timestamp(Instant.parse("2024-01-01T00:00:00Z")).build()));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_URL + HISTORY_URI).queryParam("limit", 10).build(employeeId))
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$[0].action").isEqualTo("UPDATED")
+                .jsonPath("$[1].action").isEqualTo("CREATED")
+                .jsonPath("$[1].version").isEqualTo(0);
+    }
+
+    @DisplayName(value = "JUnit Test for create an Employee with an email already in use")
+    @Test
+    public void givenRequestObjectWithTakenEmail_whenCreateEmployee_thenStatusConflictIsReturned() {
+        // given
+        final EmployeeRequestDto requestDto = EmployeeRequestDto.builder()
+                .firstName("Héctor")
+                .lastName("Cortez")
+                .email("hc@email.com")
+                .build();
+        given(employeeService.createEmployee(any(EmployeeRequestDto.class), isNull()))
+                .willReturn(Mono.error(new DuplicateEmployeeException("hc@email.com")));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.post().uri(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .body(Mono.just(requestDto), EmployeeRequestDto.class)
+                .exchange();
+
+        // then
+        response.expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.message").isEqualTo("Employee already exists for email hc@email.com")
+                .jsonPath("$.errorCode").isEqualTo(HttpErrorCode.RESOURCE_ALREADY_EXISTS.toString());
+    }
+
+    @DisplayName(value = "JUnit Test for create an Employee with an idempotency key already used for another request")
+    @Test
+    public void givenReusedIdempotencyKey_whenCreateEmployee_thenStatusUnprocessableEntityIsReturned() {
+        // given
+        final EmployeeRequestDto requestDto = EmployeeRequestDto.builder()
+                .firstName("Héctor")
+                .lastName("Cortez")
+                .email("hc@email.com")
+                .build();
+        final String idempotencyKey = "create-hc-1";
+        given(employeeService.createEmployee(any(EmployeeRequestDto.class), eq(idempotencyKey)))
+                .willReturn(Mono.error(IdempotencyKeyConflictException.reused(idempotencyKey)));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.post().uri(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .body(Mono.just(requestDto), EmployeeRequestDto.class)
+                .exchange();
+
+        // then
+        response.expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.message")
+                .isEqualTo("Idempotency key create-hc-1 was already used for a different request.")
+                .jsonPath("$.errorCode").isEqualTo(HttpErrorCode.IDEMPOTENCY_KEY_CONFLICT.toString());
+    }
+
     @DisplayName(value = "JUnit Test for get an Employee by ID but is not present in the database")
     @Test
     public void givenEmployeeId_whenGetEmployee_thenStatusNotFoundIsReturned() {
         // given
         final String employeeId = objectId.toHexString();
         given(employeeService.getEmployeeById(anyString()))
-                .willThrow(new RuntimeException(STR."Employee not found for ID \{employeeId}"));
+                .willThrow(EmployeeNotFoundException.BY_ID);
 
         // when
         WebTestClient.ResponseSpec response = webTestClient.get().uri(URL_TEMPLATE, employeeId).exchange();
@@ -120,7 +349,7 @@ public class EmployeeControllerTest {
         response.expectStatus().isNotFound()
                 .expectBody()
                 .consumeWith(System.out::println)
-                .jsonPath("$.message").isEqualTo(STR."Employee not found for ID \{employeeId}")
+                .jsonPath("$.message").isEqualTo("Employee not found for the requested ID")
                 .jsonPath("$.timestamp").isNotEmpty()
                 .jsonPath("$.errorCode").isEqualTo(HttpErrorCode.RESOURCE_NOT_FOUND.toString());
     }
@@ -130,18 +359,63 @@ public class EmployeeControllerTest {
     public void givenRequest_whenListEmployees_thenAllEmployeesFromDBWithStatusOkIsReturned() {
         // given
         List<EmployeeResponseDto> mockedList = List.of(mock(EmployeeResponseDto.class), mock(EmployeeResponseDto.class));
-        given(employeeService.listEmployees()).willReturn(Flux.fromIterable(mockedList));
+        given(employeeService.listEmployees(any(), anyInt())).willReturn(Flux.fromIterable(mockedList));
 
         // when
         WebTestClient.ResponseSpec response = webTestClient.get().uri(BASE_URL).exchange();
 
         // then
         response.expectStatus().isOk()
+                .expectHeader().doesNotExist(NEXT_CURSOR_HEADER)
+                .expectBodyList(EmployeeResponseDto.class)
+                .consumeWith(System.out::println)
+                .hasSize(2);
+    }
+
+    @DisplayName(value = "JUnit Test for list a full page of Employees and get the cursor of the next page")
+    @Test
+    public void givenLimit_whenListEmployees_thenPageWithNextCursorAndStatusOkIsReturned() {
+        // given
+        final String lastId = new ObjectId().toHexString();
+        given(employeeService.listEmployees(any(), anyInt()))
+                .willReturn(Flux.just(EmployeeResponseDto.builder().id(objectId.toHexString()).build(),
+                        EmployeeResponseDto.builder().id(lastId).build()));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_URL).queryParam("limit", 2).build())
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectHeader().valueEquals(NEXT_CURSOR_HEADER, CursorUtils.encode(lastId))
                 .expectBodyList(EmployeeResponseDto.class)
                 .consumeWith(System.out::println)
                 .hasSize(2);
     }
 
+    @DisplayName(value = "JUnit Test for stream all Employees as NDJSON")
+    @Test
+    public void givenNdjsonAccept_whenListEmployees_thenEmployeesAreStreamedWithStatusOkIsReturned() {
+        // given
+        List<EmployeeResponseDto> mockedList = List.of(mock(EmployeeResponseDto.class), mock(EmployeeResponseDto.class));
+        given(employeeService.streamEmployees()).willReturn(Flux.fromIterable(mockedList));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri(BASE_URL)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(EmployeeResponseDto.class)
+                .getResponseBody()
+                .as(StepVerifier::create)
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
     @DisplayName(value = "JUnit Test for update an Employee successfully")
     @Test
     public void givenEmployeeIdAndUpdateRequest_whenUpdateEmployee_thenUpdatedEmployeeWithStatusOkIsReturned() {
@@ -152,7 +426,7 @@ public class EmployeeControllerTest {
                 .lastName("New Last Name")
                 .email("new@email.com")
                 .build();
-        given(employeeService.updateEmployee(anyString(), any(EmployeeRequestDto.class)))
+        given(employeeService.updateEmployee(anyString(), any(), any(EmployeeRequestDto.class)))
                 .willReturn(Mono.just(EmployeeResponseDto.builder()
                         .id(employeeId)
                         .firstName(updateRequest.firstName())
@@ -187,8 +461,8 @@ public class EmployeeControllerTest {
                 .lastName("New Last Name")
                 .email("new@email.com")
                 .build();
-        given(employeeService.updateEmployee(anyString(), any(EmployeeRequestDto.class)))
-                .willThrow(new RuntimeException(STR."Employee not found for ID \{employeeId}"));
+        given(employeeService.updateEmployee(anyString(), any(), any(EmployeeRequestDto.class)))
+                .willThrow(EmployeeNotFoundException.BY_ID);
 
         // when
         WebTestClient.ResponseSpec response = webTestClient.patch().uri(URL_TEMPLATE, employeeId)
@@ -202,11 +476,61 @@ public class EmployeeControllerTest {
         response.expectStatus().isNotFound()
                 .expectBody()
                 .consumeWith(System.out::println)
-                .jsonPath("$.message").isEqualTo(STR."Employee not found for ID \{employeeId}")
+                .jsonPath("$.message").isEqualTo("Employee not found for the requested ID")
                 .jsonPath("$.timestamp").isNotEmpty()
                 .jsonPath("$.errorCode").isEqualTo(HttpErrorCode.RESOURCE_NOT_FOUND.toString());
     }
 
+    @DisplayName(value = "JUnit Test for update an Employee with a stale If-Match version")
+    @Test
+    public void givenStaleIfMatch_whenUpdateEmployee_thenStatusPreconditionFailedIsReturned() {
+        // given
+        final String employeeId = objectId.toHexString();
+        final EmployeeRequestDto updateRequest = EmployeeRequestDto.builder().firstName("New Name").build();
+        given(employeeService.updateEmployee(anyString(), eq(List.of(3L)), any(EmployeeRequestDto.class)))
+                .willReturn(Mono.error(new EmployeeVersionConflictException(employeeId, List.of(3L))));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.patch().uri(URL_TEMPLATE, employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .body(Mono.just(updateRequest), EmployeeRequestDto.class)
+                .exchange();
+
+        // then
+        response.expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED)
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.timestamp").isNotEmpty()
+                .jsonPath("$.errorCode").isEqualTo(HttpErrorCode.PRECONDITION_FAILED.toString());
+    }
+
+    @DisplayName(value = "JUnit Test for update an Employee with a list of If-Match entity tags, one of them weak")
+    @Test
+    public void givenIfMatchListWithWeakTag_whenUpdateEmployee_thenOnlyStrongTagsAreCompared() {
+        // given
+        final String employeeId = objectId.toHexString();
+        final EmployeeRequestDto updateRequest = EmployeeRequestDto.builder().firstName("New Name").build();
+        given(employeeService.updateEmployee(anyString(), eq(List.of(2L, 3L)), any(EmployeeRequestDto.class)))
+                .willReturn(Mono.error(new EmployeeVersionConflictException(employeeId, List.of(2L, 3L))));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.patch().uri(URL_TEMPLATE, employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "W/\"4\", \"2\", \"3\"")
+                .body(Mono.just(updateRequest), EmployeeRequestDto.class)
+                .exchange();
+
+        // then
+        response.expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED)
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.message").isEqualTo(STR."Employee with ID \{employeeId} is at none of the versions [2, 3]")
+                .jsonPath("$.errorCode").isEqualTo(HttpErrorCode.PRECONDITION_FAILED.toString());
+    }
+
     @DisplayName(value = "JUnit Test for delete an Employee successfully")
     @Test
     public void givenEmployeeId_whenDeleteEmployee_thenStatusNoContentIsReturned() {
@@ -222,4 +546,239 @@ public class EmployeeControllerTest {
                 .expectBody()
                 .consumeWith(System.out::println);
     }
+
+    @DisplayName(value = "JUnit Test for list Employees with an invalid page limit")
+    @Test
+    public void givenInvalidLimit_whenListEmployees_thenStatusBadRequestIsReturned() {
+        // given
+        given(employeeService.listEmployees(any(), anyInt()))
+                .willReturn(Flux.error(InvalidRequestException.INVALID_PAGE_LIMIT));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri(STR."\{BASE_URL}?limit=0").exchange();
+
+        // then
+        response.expectStatus().isBadRequest()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.message").isEqualTo(InvalidRequestException.INVALID_PAGE_LIMIT.getMessage())
+                .jsonPath("$.errorCode").isEqualTo(HttpErrorCode.INVALID_REQUEST.toString());
+    }
+
+    @DisplayName(value = "JUnit Test for get an Employee when the service fails unexpectedly")
+    @Test
+    public void givenUnexpectedError_whenGetEmployee_thenStatusInternalServerErrorIsReturned() {
+        // given
+        final String employeeId = objectId.toHexString();
+        given(employeeService.getEmployeeById(anyString()))
+                .willReturn(Mono.error(new IllegalStateException("Connection refused")));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri(URL_TEMPLATE, employeeId).exchange();
+
+        // then
+        response.expectStatus().isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR)
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.message").isEqualTo("Unexpected error while processing the request.")
+                .jsonPath("$.errorCode").isEqualTo(HttpErrorCode.INTERNAL_SERVER_ERROR.toString());
+    }
+
+    @DisplayName(value = "JUnit Test for get an Employee by ID that did not change since the client read it")
+    @Test
+    public void givenMatchingIfNoneMatch_whenGetEmployee_thenStatusNotModifiedIsReturnedWithoutLoading() {
+        // given
+        final String employeeId = objectId.toHexString();
+        final Instant lastModified = Instant.parse("2024-01-15T10:00:00Z");
+        given(employeeService.getEmployeeVersion(employeeId))
+                .willReturn(Mono.just(new EmployeeVersionDto(3L, lastModified)));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri(URL_TEMPLATE, employeeId)
+                .ifNoneMatch("\"3\"")
+                .exchange();
+
+        // then
+        response.expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"")
+                .expectHeader().lastModified(lastModified.toEpochMilli())
+                .expectBody().isEmpty();
+        verify(employeeService, never()).getEmployeeById(anyString());
+    }
+
+    @DisplayName(value = "JUnit Test for get an Employee by ID that changed since the client read it")
+    @Test
+    public void givenStaleIfNoneMatch_whenGetEmployee_thenEmployeeWithNewETagIsReturned() {
+        // given
+        final String employeeId = objectId.toHexString();
+        given(employeeService.getEmployeeVersion(employeeId)).willReturn(Mono.just(new EmployeeVersionDto(4L, null)));
+        given(employeeService.getEmployeeById(employeeId)).willReturn(Mono.just(EmployeeResponseDto.builder()
+                .id(employeeId)
+                .firstName("Héctor")
+                .lastName("Cortez")
+                .email("hc@email.com")
+                .version(4L)
+                .build()));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri(URL_TEMPLATE, employeeId)
+                .ifNoneMatch("\"3\"")
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"4\"")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(employeeId);
+    }
+
+    @DisplayName(value = "JUnit Test for list Employees when the page did not change since the client read it")
+    @Test
+    public void givenMatchingIfNoneMatch_whenListEmployees_thenStatusNotModifiedIsReturned() {
+        // given
+        final List<EmployeeResponseDto> page = List.of(EmployeeResponseDto.builder()
+                .id(objectId.toHexString())
+                .firstName("Héctor")
+                .lastName("Cortez")
+                .email("hc@email.com")
+                .version(1L)
+                .build());
+        given(employeeService.listEmployees(any(), anyInt())).willReturn(Flux.fromIterable(page));
+        final String eTag = webTestClient.get().uri(BASE_URL).exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class).getResponseHeaders().getETag();
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri(BASE_URL).ifNoneMatch(eTag).exchange();
+
+        // then
+        response.expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @DisplayName(value = "JUnit Test for get an Employee by ID as CBOR")
+    @Test
+    public void givenCborAccept_whenGetEmployee_thenCborEmployeeAndStatusOkIsReturned() {
+        // given
+        final EmployeeResponseDto responseDto = EmployeeResponseDto.builder()
+                .id(objectId.toHexString())
+                .firstName("Héctor")
+                .lastName("Cortez")
+                .email("hc@email.com")
+                .build();
+        given(employeeService.getEmployeeById(anyString())).willReturn(Mono.just(responseDto));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri(URL_TEMPLATE, objectId.toHexString())
+                .accept(BinaryMediaTypes.APPLICATION_CBOR)
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(BinaryMediaTypes.APPLICATION_CBOR)
+                .expectBody(EmployeeResponseDto.class)
+                .isEqualTo(responseDto);
+    }
+
+    @DisplayName(value = "JUnit Test for search Employees as Smile")
+    @Test
+    public void givenSmileAccept_whenSearchEmployees_thenSmileEmployeesAndStatusOkIsReturned() {
+        // given
+        given(employeeService.searchEmployeesByName(anyString(), any(), anyInt()))
+                .willReturn(Flux.just(EmployeeResponseDto.builder().id(objectId.toHexString()).build(),
+                        EmployeeResponseDto.builder().id(new ObjectId().toHexString()).build()));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_URL + SEARCH_URI).queryParam("lastName", "Cortez").build())
+                .accept(BinaryMediaTypes.APPLICATION_SMILE)
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(BinaryMediaTypes.APPLICATION_SMILE)
+                .expectBodyList(EmployeeResponseDto.class)
+                .hasSize(2);
+    }
+
+    @DisplayName(value = "JUnit Test for create Employees in bulk from a CBOR array, answered as a CBOR sequence")
+    @Test
+    public void givenCborRequests_whenCreateEmployees_thenCborSequenceResultsWithStatusOkIsReturned() {
+        // given
+        final List<EmployeeRequestDto> requests = List.of(
+                EmployeeRequestDto.builder().firstName("Héctor").lastName("Cortez").email("hc@email.com").build(),
+                EmployeeRequestDto.builder().firstName("Ana").lastName("Cortez").email("ac@email.com").build());
+        given(employeeService.createEmployees(any()))
+                .willAnswer(invocation -> invocation.<Flux<EmployeeRequestDto>>getArgument(0)
+                        .index((index, requestDto) -> BulkItemResponseDto.builder()
+                                .index(index)
+                                .id(requestDto.email())
+                                .build()));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.post().uri(BASE_URL + BULK_URI)
+                .contentType(BinaryMediaTypes.APPLICATION_CBOR)
+                .accept(BinaryMediaTypes.APPLICATION_CBOR_SEQ)
+                .bodyValue(requests)
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(BinaryMediaTypes.APPLICATION_CBOR_SEQ)
+                .returnResult(BulkItemResponseDto.class)
+                .getResponseBody()
+                .as(StepVerifier::create)
+                .expectNextMatches(item -> item.index() == 0 && "hc@email.com".equals(item.id()))
+                .expectNextMatches(item -> item.index() == 1 && "ac@email.com".equals(item.id()))
+                .verifyComplete();
+    }
+
+    @DisplayName(value = "JUnit Test for reject a CBOR sequence item over the in-memory limit")
+    @Test
+    public void givenCborItemOverInMemoryLimit_whenCreateEmployees_thenStatusPayloadTooLargeIsReturned() {
+        // given
+        final EmployeeRequestDto requestDto = EmployeeRequestDto.builder()
+                .firstName("Héctor".repeat(50_000))
+                .lastName("Cortez")
+                .build();
+        given(employeeService.createEmployees(any()))
+                .willAnswer(invocation -> invocation.<Flux<EmployeeRequestDto>>getArgument(0)
+                        .map(item -> BulkItemResponseDto.builder().index(0).build()));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.post().uri(BASE_URL + BULK_URI)
+                .contentType(BinaryMediaTypes.APPLICATION_CBOR_SEQ)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(requestDto))
+                .exchange();
+
+        // then
+        response.expectStatus().isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("A CBOR item of the request body exceeds 262144 bytes.");
+    }
+
+    @DisplayName(value = "JUnit Test for stream all Employees as Smile")
+    @Test
+    public void givenStreamSmileAccept_whenListEmployees_thenEmployeesAreStreamedWithStatusOkIsReturned() {
+        // given
+        given(employeeService.streamEmployees())
+                .willReturn(Flux.just(EmployeeResponseDto.builder().id(objectId.toHexString()).build(),
+                        EmployeeResponseDto.builder().id(new ObjectId().toHexString()).build()));
+
+        // when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri(BASE_URL)
+                .accept(BinaryMediaTypes.APPLICATION_STREAM_SMILE)
+                .exchange();
+
+        // then
+        response.expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(BinaryMediaTypes.APPLICATION_STREAM_SMILE)
+                .returnResult(EmployeeResponseDto.class)
+                .getResponseBody()
+                .as(StepVerifier::create)
+                .expectNextMatches(responseDto -> objectId.toHexString().equals(responseDto.id()))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
 }
@@ -0,0 +1,94 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.config.EmployeeIdempotencyProperties;
+import com.employeemanagement.exception.IdempotencyKeyConflictException;
+import com.employeemanagement.idempotency.EmployeeIdempotencyStore;
+import com.employeemanagement.model.dto.EmployeeRequestDto;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.repository.EmployeeIdempotencyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class EmployeeIdempotencyStoreTest {
+    private final EmployeeIdempotencyRepository idempotencyRepository = mock(EmployeeIdempotencyRepository.class);
+    private final EmployeeIdempotencyStore store = new EmployeeIdempotencyStore(idempotencyRepository,
+            new EmployeeIdempotencyProperties(true, Duration.ofHours(24), 100), new SimpleMeterRegistry());
+    private final EmployeeRequestDto requestDto = EmployeeRequestDto.builder()
+            .firstName("Héctor")
+            .lastName("Cortez")
+            .email("hc@email.com")
+            .build();
+    private final EmployeeResponseDto responseDto = EmployeeResponseDto.builder()
+            .id(new ObjectId().toHexString())
+            .firstName("Héctor")
+            .lastName("Cortez")
+            .email("hc@email.com")
+            .build();
+
+    @DisplayName(value = "JUnit Test for run concurrent and replayed requests with the same key once")
+    @Test
+    public void givenSameKey_whenExecuteConcurrentlyAndReplay_thenRequestRunsOnce() {
+        // given
+        final AtomicInteger runs = new AtomicInteger();
+        given(idempotencyRepository.reserve(anyString(), any())).willReturn(Mono.just(true));
+        given(idempotencyRepository.complete(anyString(), any())).willReturn(Mono.empty());
+        final Mono<EmployeeResponseDto> request = Mono.delay(Duration.ofMillis(50))
+                .doOnNext(tick -> runs.incrementAndGet())
+                .thenReturn(responseDto);
+
+        // when
+        final Mono<EmployeeResponseDto> first = store.execute("create-hc-1", requestDto, () -> request);
+        final Mono<EmployeeResponseDto> duplicate = store.execute("create-hc-1", requestDto, () -> request);
+
+        // then
+        StepVerifier.create(Mono.zip(first, duplicate))
+                .expectNextMatches(responses -> responses.getT1() == responseDto && responses.getT2() == responseDto)
+                .verifyComplete();
+        StepVerifier.create(store.execute("create-hc-1", requestDto, () -> request))
+                .expectNext(responseDto)
+                .verifyComplete();
+        assertThat(runs).hasValue(1);
+        verify(idempotencyRepository, times(1)).reserve("create-hc-1", requestDto);
+        verify(idempotencyRepository, times(1)).complete("create-hc-1", responseDto);
+    }
+
+    @DisplayName(value = "JUnit Test for reject a key already used for a request with another body")
+    @Test
+    public void givenKeyUsedForAnotherRequest_whenExecute_thenIdempotencyKeyConflictIsReturned() {
+        // given
+        given(idempotencyRepository.reserve(anyString(), any())).willReturn(Mono.just(true));
+        given(idempotencyRepository.complete(anyString(), any())).willReturn(Mono.empty());
+        store.execute("create-hc-2", requestDto, () -> Mono.just(responseDto)).block();
+        final EmployeeRequestDto otherRequestDto = EmployeeRequestDto.builder()
+                .firstName("Héctor")
+                .lastName("Cortez")
+                .email("hector@email.com")
+                .build();
+
+        // when
+        final Mono<EmployeeResponseDto> response =
+                store.execute("create-hc-2", otherRequestDto, () -> Mono.just(responseDto));
+
+        // then
+        StepVerifier.create(response)
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(IdempotencyKeyConflictException.class)
+                        .hasMessage("Idempotency key create-hc-2 was already used for a different request."))
+                .verify();
+    }
+}
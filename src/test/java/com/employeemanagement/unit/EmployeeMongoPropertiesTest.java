@@ -0,0 +1,75 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.config.EmployeeMongoProperties;
+import com.employeemanagement.metrics.MongoSettingsMetrics;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.data.mongodb.core.MongoActionOperation;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EmployeeMongoPropertiesTest {
+    private static final String PREFIX = "employee-management.mongo";
+
+    @DisplayName(value = "JUnit Test for bind the Mongo settings and publish them as metrics")
+    @Test
+    public void givenMongoSettings_whenBound_thenSettingsAreResolvedAndPublished() {
+        // given
+        final Map<String, String> settings = Map.of(
+                PREFIX + ".pool.max-size", "50",
+                PREFIX + ".socket.read-timeout", "10s",
+                PREFIX + ".compressors", "snappy,zlib",
+                PREFIX + ".query-read-preference", "secondaryPreferred",
+                PREFIX + ".write-concern", "majority",
+                PREFIX + ".write-concerns.remove", "w1");
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        // when
+        EmployeeMongoProperties properties = bind(settings);
+        new MongoSettingsMetrics(properties).bindTo(meterRegistry);
+
+        // then
+        assertThat(properties.queryReadPreference()).isEqualTo(ReadPreference.secondaryPreferred());
+        assertThat(properties.readPreference()).isEqualTo(ReadPreference.primary());
+        assertThat(properties.defaultWriteConcern()).isEqualTo(WriteConcern.MAJORITY);
+        assertThat(properties.writeConcernFor(MongoActionOperation.REMOVE)).isEqualTo(WriteConcern.W1);
+        assertThat(properties.writeConcernFor(MongoActionOperation.INSERT)).isNull();
+        assertThat(properties.mongoCompressors()).hasSize(2);
+        assertThat(meterRegistry.get("employee.mongo.pool.size").tag("bound", "max").gauge().value()).isEqualTo(50);
+        assertThat(meterRegistry.get("employee.mongo.timeout").tag("setting", "read").timeGauge()
+                .value(TimeUnit.SECONDS)).isEqualTo(10);
+        assertThat(meterRegistry.get("employee.mongo.client").tag("write-concern", "majority").gauge()).isNotNull();
+    }
+
+    @DisplayName(value = "JUnit Test for reject invalid Mongo settings at startup")
+    @Test
+    public void givenInvalidMongoSettings_whenBound_thenBindingFails() {
+        assertThatThrownBy(() -> bind(Map.of(PREFIX + ".compressors", "lz4")))
+                .isInstanceOf(BindException.class)
+                .rootCause().hasMessageContaining("Unknown Mongo compressor lz4");
+        assertThatThrownBy(() -> bind(Map.of(PREFIX + ".compressors", "zstd")))
+                .rootCause().hasMessageContaining("needs com.github.luben.zstd.Zstd");
+        assertThatThrownBy(() -> bind(Map.of(PREFIX + ".pool.min-size", "20", PREFIX + ".pool.max-size", "10")))
+                .rootCause().hasMessageContaining("min size");
+        assertThatThrownBy(() -> bind(Map.of(PREFIX + ".write-concerns.update", "most")))
+                .rootCause().hasMessageContaining("Unknown Mongo write concern most");
+        assertThatThrownBy(() -> bind(Map.of(PREFIX + ".read-preference", "anywhere")))
+                .isInstanceOf(BindException.class);
+    }
+
+    private static EmployeeMongoProperties bind(Map<String, String> settings) {
+        return new Binder(new MapConfigurationPropertySource(settings))
+                .bindOrCreate(PREFIX, EmployeeMongoProperties.class);
+    }
+}
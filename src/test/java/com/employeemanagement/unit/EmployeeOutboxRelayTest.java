@@ -0,0 +1,125 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.config.EmployeeOutboxProperties;
+import com.employeemanagement.model.dto.EmployeeOutboxEventDto;
+import com.employeemanagement.outbox.EmployeeOutboxRelay;
+import com.employeemanagement.outbox.InMemoryEmployeeEventSink;
+import com.employeemanagement.repository.EmployeeOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class EmployeeOutboxRelayTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmployeeOutboxRepository outboxRepository = mock(EmployeeOutboxRepository.class);
+    private final EmployeeOutboxProperties properties = new EmployeeOutboxProperties(true, 2, Duration.ofMillis(10),
+            Duration.ofSeconds(10), EmployeeOutboxProperties.Sink.MEMORY, Path.of("outbox"));
+
+    @BeforeEach
+    public void setUp() {
+        given(outboxRepository.createIndexes()).willReturn(Mono.empty());
+        given(outboxRepository.tryLease(anyString(), any())).willReturn(Mono.just(true));
+        given(outboxRepository.releaseLease(anyString())).willReturn(Mono.empty());
+    }
+
+    @DisplayName(value = "JUnit Test for publish the events of an Employee once each in version order and remove them")
+    @Test
+    public void givenOutboxEventsOutOfVersionOrder_whenRelay_thenEventsArePublishedInVersionOrderAndRemoved() {
+        // given
+        final InMemoryEmployeeEventSink sink = new InMemoryEmployeeEventSink();
+        final EmployeeOutboxRelay relay = new EmployeeOutboxRelay(outboxRepository, sink, properties, meterRegistry);
+        final String employeeId = new ObjectId().toHexString();
+        final EmployeeOutboxEventDto created = event(employeeId, EmployeeOutboxEventDto.Type.CREATED, 0L);
+        final EmployeeOutboxEventDto updated = event(employeeId, EmployeeOutboxEventDto.Type.UPDATED, 1L);
+        final EmployeeOutboxEventDto redelivered = event(employeeId, EmployeeOutboxEventDto.Type.UPDATED, 1L);
+        final EmployeeOutboxEventDto deleted = event(employeeId, EmployeeOutboxEventDto.Type.DELETED, 2L);
+        // IDs generated on other nodes put the older versions after the newer ones
+        given(outboxRepository.findOldest(2)).willReturn(Flux.just(deleted, updated), Flux.empty());
+        given(outboxRepository.findAllByEmployeeId(Set.of(employeeId)))
+                .willReturn(Flux.just(created, updated, redelivered, deleted));
+        given(outboxRepository.deleteAllById(any())).willReturn(Mono.empty());
+
+        // when
+        relay.start();
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(sink.events())
+                .containsExactly(created, updated, deleted));
+        verify(outboxRepository).deleteAllById(List.of(created.id(), updated.id(), redelivered.id(), deleted.id()));
+        assertThat(meterRegistry.get("employee.outbox.published").counter().count()).isEqualTo(3);
+        relay.stop();
+        verify(outboxRepository).releaseLease(anyString());
+    }
+
+    @DisplayName(value = "JUnit Test for publish nothing while another node holds the outbox lease")
+    @Test
+    public void givenLeaseHeldElsewhere_whenRelay_thenNothingIsPublished() {
+        // given
+        final InMemoryEmployeeEventSink sink = new InMemoryEmployeeEventSink();
+        final EmployeeOutboxRelay relay = new EmployeeOutboxRelay(outboxRepository, sink, properties, meterRegistry);
+        given(outboxRepository.tryLease(anyString(), any())).willReturn(Mono.just(false));
+
+        // when
+        relay.start();
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                verify(outboxRepository, atLeast(2)).tryLease(anyString(), eq(Duration.ofSeconds(10))));
+        verify(outboxRepository, never()).findOldest(anyInt());
+        assertThat(sink.events()).isEmpty();
+        relay.stop();
+    }
+
+    @DisplayName(value = "JUnit Test for keep the events in the outbox when the sink fails")
+    @Test
+    public void givenFailingSink_whenRelay_thenEventsStayInOutbox() {
+        // given
+        final EmployeeOutboxRelay relay = new EmployeeOutboxRelay(outboxRepository,
+                events -> Mono.error(new IllegalStateException("Sink unavailable")), properties, meterRegistry);
+        final EmployeeOutboxEventDto created = event(new ObjectId().toHexString(),
+                EmployeeOutboxEventDto.Type.CREATED, 0L);
+        given(outboxRepository.findOldest(2)).willReturn(Flux.just(created));
+        given(outboxRepository.findAllByEmployeeId(Set.of(created.employeeId()))).willReturn(Flux.just(created));
+
+        // when
+        relay.start();
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(() -> meterRegistry.find("employee.outbox.publish")
+                .tag("outcome", "error").timer() != null);
+        verify(outboxRepository, never()).deleteAllById(any());
+        relay.stop();
+    }
+
+    private static EmployeeOutboxEventDto event(String employeeId, EmployeeOutboxEventDto.Type type, long version) {
+        return EmployeeOutboxEventDto.builder()
+                .id(new ObjectId().toHexString())
+                .employeeId(employeeId)
+                .type(type)
+                .version(version)
+                .timestamp(Instant.now())
+                .build();
+    }
+}
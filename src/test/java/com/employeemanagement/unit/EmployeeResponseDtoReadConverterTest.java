@@ -0,0 +1,53 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.model.mapper.EmployeeResponseDtoReadConverter;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeResponseDtoReadConverterTest {
+    private final EmployeeResponseDtoReadConverter converter = new EmployeeResponseDtoReadConverter();
+
+    @DisplayName(value = "JUnit Test for read an employees document straight into a response DTO")
+    @Test
+    public void givenEmployeeDocument_whenReadAsResponseDto_thenConverterMapsEveryField() {
+        // given
+        final ObjectId id = new ObjectId();
+        final Instant lastModified = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        final Document document = new Document("_id", id)
+                .append("firstName", "Héctor")
+                .append("lastName", "Cortez")
+                .append("email", "hc@email.com")
+                .append("version", 3L)
+                .append("lastModified", Date.from(lastModified))
+                .append("_class", "com.employeemanagement.document.Employee");
+
+        // when
+        EmployeeResponseDto responseDto = converter.convert(document);
+
+        // then
+        assertThat(responseDto).isEqualTo(new EmployeeResponseDto(id.toHexString(), "Héctor", "Cortez",
+                "hc@email.com", 3L, lastModified));
+    }
+
+    @DisplayName(value = "JUnit Test for read a projected employees document into a response DTO")
+    @Test
+    public void givenProjectedDocument_whenReadAsResponseDto_thenMissingFieldsAreNull() {
+        // given
+        final ObjectId id = new ObjectId();
+
+        // when
+        EmployeeResponseDto responseDto = converter.convert(new Document("_id", id).append("version", 1));
+
+        // then
+        assertThat(responseDto).isEqualTo(new EmployeeResponseDto(id.toHexString(), null, null, null, 1L, null));
+    }
+}
@@ -0,0 +1,25 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.config.JacksonConfig;
+import com.employeemanagement.controller.EmployeeHandler;
+import com.employeemanagement.controller.EmployeeRouter;
+import com.employeemanagement.service.EmployeeService;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Runs every {@link EmployeeControllerTest} against the functional routes.
+ */
+@ExtendWith(SpringExtension.class)
+@WebFluxTest(properties = "employee-management.web.mode=functional")
+@Import({EmployeeRouter.class, EmployeeHandler.class, JacksonConfig.class})
+public class EmployeeRouterTest extends EmployeeControllerTest {
+    @Autowired
+    public EmployeeRouterTest(WebTestClient webTestClient, EmployeeService employeeService) {
+        super(webTestClient, employeeService);
+    }
+}
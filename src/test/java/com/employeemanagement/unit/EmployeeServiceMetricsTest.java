@@ -0,0 +1,55 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.exception.EmployeeNotFoundException;
+import com.employeemanagement.metrics.EmployeeServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeServiceMetricsTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmployeeServiceMetrics metrics = new EmployeeServiceMetrics(meterRegistry);
+
+    @DisplayName(value = "JUnit Test for tag timed operations by outcome")
+    @Test
+    public void givenOperations_whenTimed_thenTimerIsTaggedByOutcome() {
+        // when
+        StepVerifier.create(metrics.timed("get", () -> Mono.just("found"))).expectNext("found").verifyComplete();
+        StepVerifier.create(metrics.timed("get", () -> Mono.error(EmployeeNotFoundException.BY_ID)))
+                .verifyError(EmployeeNotFoundException.class);
+        StepVerifier.create(metrics.timedMany("list", () -> Flux.just(1, 2, 3))).expectNextCount(3).verifyComplete();
+
+        // then
+        assertThat(count("get", "success")).isEqualTo(1);
+        assertThat(count("get", "not-found")).isEqualTo(1);
+        assertThat(count("list", "success")).isEqualTo(1);
+    }
+
+    @DisplayName(value = "JUnit Test for time argument validation failures as validation errors")
+    @Test
+    public void givenInvalidArgument_whenTimed_thenValidationErrorIsRecorded() {
+        // when
+        StepVerifier.create(metrics.timed("create", () -> {
+                    Assert.notNull(null, "Dto request to create Employee must not be null.");
+                    return Mono.empty();
+                }))
+                .verifyError(IllegalArgumentException.class);
+
+        // then
+        assertThat(count("create", "validation-error")).isEqualTo(1);
+    }
+
+    private long count(String operation, String outcome) {
+        return meterRegistry.get(EmployeeServiceMetrics.TIMER_NAME)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+}
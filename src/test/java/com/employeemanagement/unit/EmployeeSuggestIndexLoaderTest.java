@@ -0,0 +1,61 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.config.EmployeeExportProperties;
+import com.employeemanagement.event.EmployeeChangeBus;
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.model.mapper.EmployeeMapper;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.search.EmployeeSuggestIndex;
+import com.employeemanagement.search.EmployeeSuggestIndexLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class EmployeeSuggestIndexLoaderTest {
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final EmployeeSuggestIndex suggestIndex = new EmployeeSuggestIndex();
+    private final EmployeeSuggestIndexLoader loader = new EmployeeSuggestIndexLoader(suggestIndex, employeeRepository,
+            mock(EmployeeMapper.class), new EmployeeExportProperties(500), new EmployeeChangeBus());
+
+    @AfterEach
+    void tearDown() {
+        loader.stop();
+    }
+
+    @DisplayName(value = "JUnit Test for not put back an Employee deleted while the warm-up streams the collection")
+    @Test
+    public void givenDeleteDuringWarmUp_whenSnapshotOfDeletedEmployeeArrives_thenEmployeeIsNotSuggested() {
+        // given
+        final Sinks.Many<EmployeeResponseDto> snapshot = Sinks.many().unicast().onBackpressureBuffer();
+        given(employeeRepository.streamAll(anyInt())).willReturn(snapshot.asFlux());
+        loader.start();
+        snapshot.tryEmitNext(employee("1", "Héctor", "Cortez"));
+
+        // when
+        // deleted through this node after the cursor read it, but before the warm-up indexed it
+        suggestIndex.remove("2");
+        snapshot.tryEmitNext(employee("2", "Ana", "Corrales"));
+        snapshot.tryEmitComplete();
+
+        // then
+        assertThat(suggestIndex.suggest("cor", 10)).extracting(EmployeeResponseDto::id).containsExactly("1");
+        // once warmed, the index takes new employees as before
+        suggestIndex.put(employee("3", "Corina", "Diaz"));
+        assertThat(suggestIndex.suggest("cor", 10)).extracting(EmployeeResponseDto::id).containsExactly("3", "1");
+    }
+
+    private static EmployeeResponseDto employee(String id, String firstName, String lastName) {
+        return EmployeeResponseDto.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .version(0L)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.model.dto.EmployeeResponseDto;
+import com.employeemanagement.search.EmployeeSuggestIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeSuggestIndexTest {
+    private final EmployeeSuggestIndex suggestIndex = new EmployeeSuggestIndex();
+
+    @DisplayName(value = "JUnit Test for suggest Employees by first name, last name or email prefix ignoring case")
+    @Test
+    public void givenIndexedEmployees_whenSuggest_thenEmployeesMatchingAnyTermAreReturned() {
+        // given
+        suggestIndex.put(employee("1", "Héctor", "Cortez", "hc@email.com", 0L));
+        suggestIndex.put(employee("2", "Ana", "Corrales", "ana@email.com", 0L));
+        suggestIndex.put(employee("3", "Corina", "Diaz", "cdiaz@email.com", 0L));
+
+        // when - then
+        assertThat(suggestIndex.suggest("cor", 10)).extracting(EmployeeResponseDto::id)
+                .containsExactly("3", "2", "1");
+        assertThat(suggestIndex.suggest("CD", 10)).extracting(EmployeeResponseDto::id).containsExactly("3");
+        assertThat(suggestIndex.suggest("cor", 2)).hasSize(2);
+        assertThat(suggestIndex.suggest("x", 10)).isEmpty();
+    }
+
+    @DisplayName(value = "JUnit Test for drop the terms of the previous version of an updated Employee")
+    @Test
+    public void givenUpdatedEmployee_whenSuggest_thenOnlyCurrentTermsMatch() {
+        // given
+        suggestIndex.put(employee("1", "Héctor", "Cortez", "hc@email.com", 0L));
+        suggestIndex.put(employee("1", "Héctor", "Ramos", "hc@email.com", 1L));
+        // a late write of an older version must not win
+        suggestIndex.put(employee("1", "Héctor", "Cortez", "hc@email.com", 0L));
+
+        // when - then
+        assertThat(suggestIndex.suggest("cor", 10)).isEmpty();
+        assertThat(suggestIndex.suggest("ram", 10)).extracting(EmployeeResponseDto::lastName).containsExactly("Ramos");
+        assertThat(suggestIndex.suggest("hé", 10)).hasSize(1);
+    }
+
+    @DisplayName(value = "JUnit Test for not suggest a removed Employee")
+    @Test
+    public void givenRemovedEmployee_whenSuggest_thenEmployeeIsNotReturned() {
+        // given
+        suggestIndex.put(employee("1", "Héctor", "Cortez", "hc@email.com", 0L));
+        suggestIndex.remove("1");
+
+        // when - then
+        assertThat(suggestIndex.suggest("h", 10)).isEmpty();
+        assertThat(suggestIndex.size()).isZero();
+    }
+
+    private static EmployeeResponseDto employee(String id, String firstName, String lastName, String email,
+                                                Long version) {
+        return EmployeeResponseDto.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.config.EmployeeRateLimitProperties;
+import com.employeemanagement.throttling.RateLimitingWebFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Set;
+
+import static com.employeemanagement.utils.EmployeeManagementUtils.BASE_URL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RateLimitingWebFilterTest {
+    private final RateLimitingWebFilter filter = new RateLimitingWebFilter(
+            new EmployeeRateLimitProperties(true, 2, 1, "X-API-Key", Set.of("client-a", "client-b"), 100,
+                    Duration.ofMinutes(1)));
+    private final WebFilterChain chain = exchange -> Mono.empty();
+
+    @DisplayName(value = "JUnit Test for reject a client over its burst with 429 and Retry-After")
+    @Test
+    public void givenClientOverBurst_whenFilter_thenStatusTooManyRequestsIsReturned() {
+        // given
+        filter(BASE_URL, "client-a");
+        filter(BASE_URL, "client-a");
+
+        // when
+        MockServerWebExchange rejected = filter(BASE_URL, "client-a");
+        MockServerWebExchange otherClient = filter(BASE_URL, "client-b");
+
+        // then
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(otherClient.getResponse().getStatusCode()).isNull();
+    }
+
+    @DisplayName(value = "JUnit Test for leave requests outside the employees API unlimited")
+    @Test
+    public void givenRequestsOutsideApi_whenFilter_thenRequestsAreNotLimited() {
+        // when
+        for (int i = 0; i < 5; i++)
+            filter("/actuator/health", "client-a");
+        MockServerWebExchange exchange = filter("/actuator/health", "client-a");
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode()).isNull();
+    }
+
+    @DisplayName(value = "JUnit Test for limit unknown API keys by the address they come from")
+    @Test
+    public void givenNewUnknownApiKeyPerRequest_whenFilter_thenAddressIsLimited() {
+        // given
+        filter(BASE_URL, "unknown-1");
+        filter(BASE_URL, "unknown-2");
+
+        // when
+        MockServerWebExchange rejected = filter(BASE_URL, "unknown-3");
+
+        // then
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @DisplayName(value = "JUnit Test for reject rate limit settings the token buckets cannot work with")
+    @Test
+    public void givenInvalidRateLimitSettings_whenCreated_thenIllegalArgumentExceptionIsThrown() {
+        assertThatThrownBy(() -> settings(2, 0, 100, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("refill per second");
+        assertThatThrownBy(() -> settings(2, 2_000_000_000L, 100, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("refill per second");
+        assertThatThrownBy(() -> settings(0, 1, 100, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("capacity");
+        assertThatThrownBy(() -> settings(Long.MAX_VALUE, 1, 100, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("capacity");
+        assertThatThrownBy(() -> settings(2, 1, 0, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("max clients");
+        assertThatThrownBy(() -> settings(2, 1, 100, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("idle timeout");
+    }
+
+    private static EmployeeRateLimitProperties settings(long capacity, long refillPerSecond, long maxClients,
+                                                        Duration idleTimeout) {
+        return new EmployeeRateLimitProperties(true, capacity, refillPerSecond, "X-API-Key", Set.of(), maxClients,
+                idleTimeout);
+    }
+
+    private MockServerWebExchange filter(String path, String apiKey) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path)
+                .remoteAddress(new InetSocketAddress("192.0.2.1", 50000))
+                .header("X-API-Key", apiKey));
+        filter.filter(exchange, chain).block();
+        return exchange;
+    }
+}
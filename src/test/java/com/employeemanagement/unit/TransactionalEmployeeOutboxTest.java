@@ -0,0 +1,110 @@
+package com.employeemanagement.unit;
+
+import com.employeemanagement.document.Employee;
+import com.employeemanagement.model.dto.EmployeeOutboxEventDto;
+import com.employeemanagement.outbox.TransactionalEmployeeOutbox;
+import com.employeemanagement.repository.EmployeeOutboxRepository;
+import com.mongodb.MongoException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class TransactionalEmployeeOutboxTest {
+    private final EmployeeOutboxRepository outboxRepository = mock(EmployeeOutboxRepository.class);
+    private final TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+    private final TransactionalEmployeeOutbox outbox =
+            new TransactionalEmployeeOutbox(outboxRepository, transactionalOperator);
+
+    @DisplayName(value = "JUnit Test for insert again without the failed Employees and record only those inserted")
+    @Test
+    public void givenBulkWithFailedInserts_whenCreatedAll_thenOthersAreInsertedAgainAndRecorded() {
+        // given
+        given(transactionalOperator.transactional(any(Mono.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(outboxRepository.insertAll(anyList())).willReturn(Mono.empty());
+        final List<Employee> employees = List.of(employee("hc@email.com"), employee("taken@email.com"),
+                employee("ac@email.com"));
+        final List<List<Employee>> attempts = new ArrayList<>();
+
+        // when
+        final Mono<Map<Integer, String>> errors = outbox.createdAll(employees, attempt -> {
+            attempts.add(attempt);
+            return Mono.just(attempts.size() == 1 ? Map.of(1, "E11000 duplicate key") : Map.of());
+        });
+
+        // then
+        StepVerifier.create(errors)
+                .expectNext(Map.of(1, "E11000 duplicate key"))
+                .verifyComplete();
+        assertThat(attempts).containsExactly(employees, List.of(employees.get(0), employees.get(2)));
+        final ArgumentCaptor<List<EmployeeOutboxEventDto>> events = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).insertAll(events.capture());
+        assertThat(events.getValue()).extracting(EmployeeOutboxEventDto::employeeId)
+                .containsExactly(employees.get(0).getId(), employees.get(2).getId());
+    }
+
+    @DisplayName(value = "JUnit Test for retry a bulk insert failed as a whole with a transient transaction error")
+    @Test
+    public void givenTransientBulkFailure_whenCreatedAll_thenBulkIsRetriedAndRecorded() {
+        // given
+        given(transactionalOperator.transactional(any(Mono.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(outboxRepository.insertAll(anyList())).willReturn(Mono.empty());
+        final List<Employee> employees = List.of(employee("hc@email.com"), employee("ac@email.com"));
+        final MongoException writeConflict = new MongoException(112, "WriteConflict");
+        writeConflict.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+        final List<List<Employee>> attempts = new ArrayList<>();
+
+        // when
+        final Mono<Map<Integer, String>> errors = outbox.createdAll(employees, attempt -> {
+            attempts.add(attempt);
+            return attempts.size() == 1
+                    ? Mono.error(new UncategorizedMongoDbException(writeConflict.getMessage(), writeConflict))
+                    : Mono.just(Map.of());
+        });
+
+        // then
+        StepVerifier.create(errors)
+                .expectNext(Map.of())
+                .verifyComplete();
+        assertThat(attempts).containsExactly(employees, employees);
+        final ArgumentCaptor<List<EmployeeOutboxEventDto>> events = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).insertAll(events.capture());
+        assertThat(events.getValue()).extracting(EmployeeOutboxEventDto::employeeId)
+                .containsExactly(employees.get(0).getId(), employees.get(1).getId());
+    }
+
+    @DisplayName(value = "JUnit Test for record nothing when deleting an ID no Employee had")
+    @Test
+    public void givenMissingEmployee_whenDeleted_thenNothingIsRecorded() {
+        // given
+        given(transactionalOperator.transactional(any(Mono.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        final Mono<Employee> deleted = outbox.deleted(new ObjectId().toHexString(), Mono.empty());
+
+        // then
+        StepVerifier.create(deleted).verifyComplete();
+        verify(outboxRepository, never()).insert(any());
+    }
+
+    private static Employee employee(String email) {
+        return new Employee(new ObjectId().toHexString(), "Héctor", "Cortez", email, 0L, Instant.now());
+    }
+}